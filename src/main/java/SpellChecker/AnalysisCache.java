@@ -0,0 +1,162 @@
+package SpellChecker;
+
+import Dictionary.TxtDictionary;
+import Dictionary.TxtWord;
+import MorphologicalAnalysis.FsmMorphologicalAnalyzer;
+import MorphologicalAnalysis.FsmParse;
+import MorphologicalAnalysis.FsmParseList;
+
+import java.util.ArrayList;
+
+public class AnalysisCache {
+    private final FsmMorphologicalAnalyzer fsm;
+    private final ConcurrentLruCache<String, FsmParseList> cache;
+    private boolean synchronizedAnalysis = true;
+
+    /**
+     * A constructor of {@link AnalysisCache} class which wraps the given {@link FsmMorphologicalAnalyzer} with a
+     * thread safe, size bounded cache of its morphological analysis results.
+     *
+     * @param fsm      {@link FsmMorphologicalAnalyzer} whose results will be cached.
+     * @param capacity Maximum number of surface forms kept in the cache. 0 disables caching.
+     */
+    public AnalysisCache(FsmMorphologicalAnalyzer fsm, int capacity) {
+        this.fsm = fsm;
+        this.cache = new ConcurrentLruCache<>(capacity);
+    }
+
+    /**
+     * Returns the morphological analyses of the given surface form. The result is taken from the cache if the surface
+     * form was analyzed before, otherwise the analyzer is called and its result is stored. Empty results, that is
+     * surface forms without any parse, are cached as well, since most of the edit candidates of a misspelled word
+     * have no parse.
+     * <p>
+     * The returned {@link FsmParseList} is shared between all callers and must not be modified. The method can be
+     * called by several threads at the same time.
+     *
+     * @param surfaceForm Surface form to be analyzed.
+     * @return {@link FsmParseList} containing the analyses of the surface form.
+     */
+    public FsmParseList morphologicalAnalysis(String surfaceForm) {
+        FsmParseList fsmParseList = cache.get(surfaceForm);
+        if (fsmParseList == null) {
+            if (synchronizedAnalysis) {
+                synchronized (fsm) {
+                    fsmParseList = fsm.morphologicalAnalysis(surfaceForm);
+                }
+            } else {
+                fsmParseList = fsm.morphologicalAnalysis(surfaceForm);
+            }
+            cache.put(surfaceForm, fsmParseList);
+        }
+        return fsmParseList;
+    }
+
+    /**
+     * Generates all surface forms of the given root up to the given length by the morphological analyzer. The results
+     * are not cached, and the call is serialized like the analyses on cache misses, unless serialization is disabled.
+     *
+     * @param root      {@link TxtWord} root whose surface forms will be generated.
+     * @param maxLength Maximum length of the generated surface forms.
+     * @return {@link FsmParse}s of the generated surface forms.
+     */
+    public ArrayList<FsmParse> generateAllParses(TxtWord root, int maxLength) {
+        if (synchronizedAnalysis) {
+            synchronized (fsm) {
+                return fsm.generateAllParses(root, maxLength);
+            }
+        }
+        return fsm.generateAllParses(root, maxLength);
+    }
+
+    /**
+     * Sets whether calls to the morphological analyzer on cache misses are serialized. The calls are serialized by
+     * default, since the analyzer keeps its own unsynchronized cache. If the analyzer is constructed with a cache size
+     * of 0, it can analyze several surface forms at the same time and serialization can be disabled.
+     *
+     * @param synchronizedAnalysis true if the calls to the analyzer are serialized, false otherwise.
+     */
+    public void setSynchronizedAnalysis(boolean synchronizedAnalysis) {
+        this.synchronizedAnalysis = synchronizedAnalysis;
+    }
+
+    /**
+     * Checks if calls to the morphological analyzer on cache misses are serialized.
+     *
+     * @return true if the calls to the analyzer are serialized, false otherwise.
+     */
+    public boolean isSynchronizedAnalysis() {
+        return synchronizedAnalysis;
+    }
+
+    /**
+     * Checks if the given surface form has at least one morphological analysis.
+     *
+     * @param surfaceForm Surface form to be analyzed.
+     * @return true if the surface form has a parse, false otherwise.
+     */
+    public boolean hasParse(String surfaceForm) {
+        return morphologicalAnalysis(surfaceForm).size() > 0;
+    }
+
+    /**
+     * Returns the wrapped morphological analyzer.
+     *
+     * @return {@link FsmMorphologicalAnalyzer} whose results are cached.
+     */
+    public FsmMorphologicalAnalyzer getFsm() {
+        return fsm;
+    }
+
+    /**
+     * Returns the dictionary of the wrapped morphological analyzer.
+     *
+     * @return {@link TxtDictionary} of the morphological analyzer.
+     */
+    public TxtDictionary getDictionary() {
+        return fsm.getDictionary();
+    }
+
+    /**
+     * Returns the number of surface forms currently in the cache.
+     *
+     * @return Number of cached surface forms.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Removes all cached analyses.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * Returns the number of analyses answered from the cache.
+     *
+     * @return Number of cache hits.
+     */
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    /**
+     * Returns the number of analyses that required a call to the morphological analyzer.
+     *
+     * @return Number of cache misses.
+     */
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    /**
+     * Returns the number of analyses removed from the cache to make space for new ones.
+     *
+     * @return Number of evicted analyses.
+     */
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+}
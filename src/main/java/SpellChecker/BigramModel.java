@@ -0,0 +1,16 @@
+package SpellChecker;
+
+/**
+ * Bigram language model used by the n-gram spell checker to score a candidate with its neighbouring words.
+ */
+public interface BigramModel {
+
+    /**
+     * Returns the bigram probability P(word2 | word1).
+     *
+     * @param word1 First word in the bigram.
+     * @param word2 Second word in the bigram.
+     * @return Bigram probability P(word2 | word1).
+     */
+    double getProbability(String word1, String word2);
+}
@@ -0,0 +1,365 @@
+package SpellChecker;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+public class CompactContextList {
+    private static final int MAGIC = 0x43545854;
+    private static final int VERSION = 2;
+    private static final byte[] SIGNATURE_BITS = new byte[0x180];
+    private static final int HEADER_SIZE = 20;
+    private final ByteBuffer buffer;
+    private final int wordCount;
+    private final int targetCount;
+    private final int charCount;
+    private final int stringOffset;
+    private final int listOffset;
+    private final int targetOffset;
+    private final int signatureOffset;
+    private final int charOffset;
+
+    static {
+        String letters = "abcçdefgğhıijklmnoöprsştuüvyzqwx";
+        for (int i = 0; i < SIGNATURE_BITS.length; i++) {
+            SIGNATURE_BITS[i] = (byte) (32 + i % 32);
+        }
+        for (int i = 0; i < letters.length(); i++) {
+            SIGNATURE_BITS[letters.charAt(i)] = (byte) i;
+            SIGNATURE_BITS[Character.toUpperCase(letters.charAt(i))] = (byte) i;
+        }
+        SIGNATURE_BITS['İ'] = SIGNATURE_BITS['i'];
+    }
+
+    /**
+     * A constructor of {@link CompactContextList} class which reads the context list stored in the given buffer. Every
+     * word, either a root or a candidate in the context list of a root, is stored once in a string table sorted in
+     * increasing order, and is identified by its position in the table. The buffer starts with a header of five
+     * integers: a magic number, the version, the number of words, the number of context list entries and the number of
+     * characters of all words. Then the start positions of the words in the character array, the start positions of
+     * the context lists of the words in the target array, the word identifiers of all context lists, the signatures of
+     * all words and the characters of all words follow.
+     *
+     * @param buffer Buffer containing the context list.
+     * @throws IOException If the buffer does not contain a context list, or is shorter than its header requires.
+     */
+    private CompactContextList(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Not a context list image");
+        }
+        wordCount = buffer.getInt(8);
+        targetCount = buffer.getInt(12);
+        charCount = buffer.getInt(16);
+        stringOffset = HEADER_SIZE;
+        listOffset = stringOffset + 4 * (wordCount + 1);
+        targetOffset = listOffset + 4 * (wordCount + 1);
+        signatureOffset = targetOffset + 4 * targetCount;
+        charOffset = signatureOffset + 8 * wordCount;
+        if (buffer.capacity() < imageSize(wordCount, targetCount, charCount)) {
+            throw new IOException("Truncated context list image");
+        }
+    }
+
+    /**
+     * Builds the context list from the given reader. Each line contains a root, a tab and the words in the context of
+     * the root separated by spaces. Lines without a tab are skipped, and if a root occurs on more than one line, its
+     * last line is used.
+     *
+     * @param reader Reader of the context list.
+     * @return {@link CompactContextList} of the lines read.
+     * @throws IOException If the context list can not be read, or its image would be larger than 2 GB.
+     */
+    public static CompactContextList build(BufferedReader reader) throws IOException {
+        HashMap<String, Integer> ids = new HashMap<>();
+        ArrayList<String> strings = new ArrayList<>();
+        HashMap<Integer, int[]> lists = new HashMap<>();
+        int[] list = new int[16];
+        String line;
+        while ((line = reader.readLine()) != null) {
+            int tab = line.indexOf('\t');
+            if (tab < 0) {
+                continue;
+            }
+            int root = intern(line.substring(0, tab), ids, strings);
+            int end = line.indexOf('\t', tab + 1);
+            if (end < 0) {
+                end = line.length();
+            }
+            int size = 0;
+            int start = tab + 1;
+            while (start < end) {
+                int space = line.indexOf(' ', start);
+                if (space < 0 || space > end) {
+                    space = end;
+                }
+                if (space > start) {
+                    if (size == list.length) {
+                        list = Arrays.copyOf(list, 2 * size);
+                    }
+                    list[size++] = intern(line.substring(start, space), ids, strings);
+                }
+                start = space + 1;
+            }
+            lists.put(root, Arrays.copyOf(list, size));
+        }
+        String[] sorted = strings.toArray(new String[0]);
+        Arrays.sort(sorted);
+        int[] newIds = new int[sorted.length];
+        long targetCount = 0, charCount = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            newIds[ids.get(sorted[i])] = i;
+            charCount += sorted[i].length();
+        }
+        for (int[] targets : lists.values()) {
+            targetCount += targets.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(imageSize(sorted.length, targetCount, charCount));
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(8, sorted.length);
+        buffer.putInt(12, (int) targetCount);
+        buffer.putInt(16, (int) charCount);
+        int stringOffset = HEADER_SIZE;
+        int listOffset = stringOffset + 4 * (sorted.length + 1);
+        int targetOffset = listOffset + 4 * (sorted.length + 1);
+        int signatureOffset = targetOffset + 4 * (int) targetCount;
+        int charOffset = signatureOffset + 8 * sorted.length;
+        int character = 0, target = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            buffer.putInt(stringOffset + 4 * i, character);
+            buffer.putLong(signatureOffset + 8 * i, signature(sorted[i]));
+            for (int j = 0; j < sorted[i].length(); j++) {
+                buffer.putChar(charOffset + 2 * character, sorted[i].charAt(j));
+                character++;
+            }
+            buffer.putInt(listOffset + 4 * i, target);
+            int[] targets = lists.get(ids.get(sorted[i]));
+            if (targets != null) {
+                for (int oldId : targets) {
+                    buffer.putInt(targetOffset + 4 * target, newIds[oldId]);
+                    target++;
+                }
+            }
+        }
+        buffer.putInt(stringOffset + 4 * sorted.length, character);
+        buffer.putInt(listOffset + 4 * sorted.length, target);
+        return new CompactContextList(buffer);
+    }
+
+    /**
+     * Returns the identifier of the given word while building, assigning a new identifier if the word is new.
+     *
+     * @param word    Word to be interned.
+     * @param ids     Identifiers of the words interned so far.
+     * @param strings Words interned so far, in the order of their identifiers.
+     * @return Identifier of the word.
+     */
+    private static int intern(String word, HashMap<String, Integer> ids, ArrayList<String> strings) {
+        Integer id = ids.get(word);
+        if (id == null) {
+            id = strings.size();
+            ids.put(word, id);
+            strings.add(word);
+        }
+        return id;
+    }
+
+    /**
+     * Returns the size in bytes of an image with the given number of words, context list entries and characters. The
+     * image is addressed by a {@link ByteBuffer}, so it can not be larger than 2 GB.
+     *
+     * @param wordCount   Number of words.
+     * @param targetCount Number of context list entries.
+     * @param charCount   Number of characters of all words.
+     * @return Size of the image in bytes.
+     * @throws IOException If the image would be larger than 2 GB.
+     */
+    private static int imageSize(long wordCount, long targetCount, long charCount) throws IOException {
+        long size = HEADER_SIZE + 8 * (wordCount + 1) + 4 * targetCount + 8 * wordCount + 2 * charCount;
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Context list image of " + size + " bytes is larger than 2 GB");
+        }
+        return (int) size;
+    }
+
+    /**
+     * Memory maps the context list stored in the given file. The context list is not copied to the heap, and the pages
+     * of the file are shared by all processes mapping the same file.
+     *
+     * @param fileName Name of the image file.
+     * @return {@link CompactContextList} backed by the mapped file.
+     * @throws IOException If the file can not be mapped, is larger than 2 GB or does not contain a context list.
+     */
+    public static CompactContextList map(String fileName) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Context list image " + fileName + " is larger than 2 GB");
+            }
+            return new CompactContextList(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Saves the context list to the given file.
+     *
+     * @param fileName Name of the image file.
+     * @throws IOException If the file can not be written.
+     */
+    public void save(String fileName) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer source = buffer.duplicate();
+            source.position(0);
+            source.limit(imageSize(wordCount, targetCount, charCount));
+            while (source.hasRemaining()) {
+                channel.write(source);
+            }
+        }
+    }
+
+    /**
+     * Compares the word with the given identifier with the given string.
+     *
+     * @param id   Identifier of the word.
+     * @param word String to be compared.
+     * @return Negative if the word is smaller than the string, 0 if they are equal, positive otherwise.
+     */
+    private int compare(int id, String word) {
+        int start = buffer.getInt(stringOffset + 4 * id);
+        int length = buffer.getInt(stringOffset + 4 * (id + 1)) - start;
+        for (int i = 0; i < Math.min(length, word.length()); i++) {
+            char character = buffer.getChar(charOffset + 2 * (start + i));
+            if (character != word.charAt(i)) {
+                return character - word.charAt(i);
+            }
+        }
+        return length - word.length();
+    }
+
+    /**
+     * Returns the identifier of the given word with a binary search on the string table.
+     *
+     * @param word Word to be searched for.
+     * @return Identifier of the word, -1 if the word is not in the context list.
+     */
+    public int getId(String word) {
+        int low = 0, high = wordCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = compare(middle, word);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else {
+                if (comparison > 0) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the word with the given identifier.
+     *
+     * @param id Identifier of the word.
+     * @return Word with the identifier.
+     */
+    public String getWord(int id) {
+        int start = buffer.getInt(stringOffset + 4 * id);
+        char[] characters = new char[buffer.getInt(stringOffset + 4 * (id + 1)) - start];
+        for (int i = 0; i < characters.length; i++) {
+            characters[i] = buffer.getChar(charOffset + 2 * (start + i));
+        }
+        return new String(characters);
+    }
+
+    /**
+     * Returns the length of the word with the given identifier.
+     *
+     * @param id Identifier of the word.
+     * @return Length of the word.
+     */
+    public int getLength(int id) {
+        return buffer.getInt(stringOffset + 4 * (id + 1)) - buffer.getInt(stringOffset + 4 * id);
+    }
+
+    /**
+     * Returns the signature of the word with the given identifier.
+     *
+     * @param id Identifier of the word.
+     * @return Signature of the word.
+     * @see CompactContextList#signature(CharSequence)
+     */
+    public long getSignature(int id) {
+        return buffer.getLong(signatureOffset + 8 * id);
+    }
+
+    /**
+     * Returns the signature of the given word, which is a bit mask of the characters occurring in the word. Each letter
+     * of the Turkish alphabet has its own bit, shared by its lower and upper case forms, and the other characters share
+     * the remaining bits. A character whose bit is set in the signature of one word but not in the other must be deleted
+     * or substituted, so the edit distance of two words is at least the number of bits set in only one of them.
+     *
+     * @param word Word whose signature will be computed.
+     * @return Signature of the word.
+     */
+    public static long signature(CharSequence word) {
+        long signature = 0;
+        for (int i = 0; i < word.length(); i++) {
+            char character = word.charAt(i);
+            signature |= 1L << (character < SIGNATURE_BITS.length ? SIGNATURE_BITS[character] : 32 + character % 32);
+        }
+        return signature;
+    }
+
+    /**
+     * Returns a lower bound of the edit distance of two words from their signatures. A substitution can fix one bit
+     * set only in the first signature and one bit set only in the second, insertions and deletions fix one bit, and
+     * transpositions do not change the signatures.
+     *
+     * @param first  Signature of the first word.
+     * @param second Signature of the second word.
+     * @return Lower bound of the edit distance of the words.
+     */
+    public static int signatureDistance(long first, long second) {
+        return Math.max(Long.bitCount(first & ~second), Long.bitCount(second & ~first));
+    }
+
+    /**
+     * Returns the number of words in the context list of the word with the given identifier.
+     *
+     * @param id Identifier of the root word.
+     * @return Number of words in its context list, 0 if it has no context list.
+     */
+    public int getContextCount(int id) {
+        return buffer.getInt(listOffset + 4 * (id + 1)) - buffer.getInt(listOffset + 4 * id);
+    }
+
+    /**
+     * Returns the identifier of a word in the context list of the word with the given identifier.
+     *
+     * @param id    Identifier of the root word.
+     * @param index Position in the context list.
+     * @return Identifier of the word at the given position of the context list.
+     */
+    public int getContext(int id, int index) {
+        return buffer.getInt(targetOffset + 4 * (buffer.getInt(listOffset + 4 * id) + index));
+    }
+
+    /**
+     * Returns the number of distinct words, roots and context words together.
+     *
+     * @return Number of words.
+     */
+    public int size() {
+        return wordCount;
+    }
+}
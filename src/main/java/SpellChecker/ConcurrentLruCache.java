@@ -0,0 +1,158 @@
+package SpellChecker;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ConcurrentLruCache<K, V> {
+    private final Segment<K, V>[] segments;
+    private final int segmentMask;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * One lock stripe of the cache. Each segment is an access ordered {@link LinkedHashMap}, which evicts its least
+     * recently used entry when the segment grows beyond its capacity.
+     */
+    private static class Segment<K, V> extends LinkedHashMap<K, V> {
+        private final int capacity;
+        private final LongAdder evictionCount;
+
+        Segment(int capacity, LongAdder evictionCount) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictionCount = evictionCount;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            if (size() > capacity) {
+                evictionCount.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Constructs a thread safe, size bounded cache. The entries are distributed over a number of independently locked
+     * segments, each of which evicts its least recently used entries when it is full. The capacities of the segments add
+     * up to the given capacity. A capacity of 0 constructs a cache that stores nothing.
+     *
+     * @param capacity Maximum number of entries kept in the cache.
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentLruCache(int capacity) {
+        int segmentCount = 1;
+        while (segmentCount < 16 && segmentCount * 64 < capacity) {
+            segmentCount <<= 1;
+        }
+        segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(capacity / segmentCount + (i < capacity % segmentCount ? 1 : 0), evictionCount);
+        }
+        segmentMask = segmentCount - 1;
+    }
+
+    /**
+     * Returns the segment responsible for the given key.
+     *
+     * @param key Key of the entry.
+     * @return Segment that stores the entry with the given key.
+     */
+    private Segment<K, V> segmentFor(Object key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return segments[hash & segmentMask];
+    }
+
+    /**
+     * Returns the value stored for the given key and updates the hit and miss counters.
+     *
+     * @param key Key of the entry.
+     * @return Value stored for the key, null if the key is not in the cache.
+     */
+    public V get(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        V value;
+        synchronized (segment) {
+            value = segment.get(key);
+        }
+        if (value != null) {
+            hitCount.increment();
+        } else {
+            missCount.increment();
+        }
+        return value;
+    }
+
+    /**
+     * Stores the given value for the given key. If the segment of the key is full, its least recently used entry is
+     * evicted.
+     *
+     * @param key   Key of the entry.
+     * @param value Value of the entry, can not be null.
+     */
+    public void put(K key, V value) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            if (segment.capacity > 0) {
+                segment.put(key, value);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of entries in the cache.
+     *
+     * @return Number of entries in the cache.
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Removes all entries from the cache. The hit, miss and eviction counters are not reset.
+     */
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of lookups that found their key in the cache.
+     *
+     * @return Number of cache hits.
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Returns the number of lookups that did not find their key in the cache.
+     *
+     * @return Number of cache misses.
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Returns the number of entries removed from the cache to make space for new entries.
+     *
+     * @return Number of evicted entries.
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+}
@@ -7,12 +7,47 @@ import MorphologicalAnalysis.FsmParseList;
 import Ngram.NGram;
 import java.io.*;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 
 public class ContextBasedSpellChecker extends NGramSpellChecker {
-    private HashMap<String, ArrayList<String>> contextList;
+    private CompactContextList contextList;
+    private final ThreadLocal<SentenceContext> sentenceContext = new ThreadLocal<>();
+
+    /**
+     * Roots of the words of a sentence and the index of the context candidates, which are computed once for a
+     * sentence and reused for all of its misspelled words.
+     */
+    private static class SentenceContext {
+        private final Sentence sentence;
+        private final Word[] words;
+        private final String[] roots;
+        private final ContextIndex index;
+
+        SentenceContext(Sentence sentence, String[] roots, ContextIndex index) {
+            this.sentence = sentence;
+            this.words = sentence.getWords().toArray(new Word[0]);
+            this.roots = roots;
+            this.index = index;
+        }
+
+        /**
+         * Checks if the context was computed for the given sentence, and the sentence still has the same words.
+         *
+         * @param sentence Sentence to check.
+         * @return true if the context belongs to the sentence, false otherwise.
+         */
+        boolean matches(Sentence sentence) {
+            if (sentence != this.sentence || sentence.wordCount() != words.length) {
+                return false;
+            }
+            for (int i = 0; i < words.length; i++) {
+                if (sentence.getWord(i) != words[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 
     /**
      * A constructor of {@link ContextBasedSpellChecker} class which takes an {@link FsmMorphologicalAnalyzer}, an {@link NGram}
@@ -26,6 +61,19 @@ public class ContextBasedSpellChecker extends NGramSpellChecker {
         super(fsm, nGram, parameter);
     }
 
+    /**
+     * Another constructor of {@link ContextBasedSpellChecker} class which takes an {@link FsmMorphologicalAnalyzer}, a
+     * {@link BigramModel} and a {@link SpellCheckerParameter} as inputs. Then, calls its super class
+     * {@link NGramSpellChecker} with given inputs.
+     *
+     * @param fsm         {@link FsmMorphologicalAnalyzer} type input.
+     * @param bigramModel {@link BigramModel} type input.
+     * @param parameter   {@link SpellCheckerParameter} type input.
+     */
+    public ContextBasedSpellChecker(FsmMorphologicalAnalyzer fsm, BigramModel bigramModel, SpellCheckerParameter parameter) {
+        super(fsm, bigramModel, parameter);
+    }
+
     /**
      * Another constructor of {@link ContextBasedSpellChecker} class which takes an {@link FsmMorphologicalAnalyzer} and
      * an {@link NGram} as inputs. Then, calls its super class {@link NGramSpellChecker} with given inputs.
@@ -40,33 +88,83 @@ public class ContextBasedSpellChecker extends NGramSpellChecker {
     /**
      * {@inheritDoc}
      *
-     * This method also loads context information from a file.
+     * This method also loads context information from a file. If a context list image file is given in the parameter,
+     * the image is memory mapped. Otherwise, context_list.txt is read into a {@link CompactContextList}, which stores
+     * each distinct word once and the context lists as arrays of word identifiers.
      */
     @Override
     protected void loadDictionaries() {
         super.loadDictionaries();
-        String line;
-        ArrayList<String> contextListWords;
-        contextList = new HashMap<>();
         BufferedReader contextListReader;
         try {
-            contextListReader = getReader("context_list.txt");
-            while ((line = contextListReader.readLine()) != null) {
-                String word = line.split("\t")[0];
-                String[] otherWords = line.split("\t")[1].split(" ");
-                contextListWords = new ArrayList<>(Arrays.asList(otherWords));
-                contextList.put(word, contextListWords);
+            if (parameter.getContextListImageFile() != null) {
+                contextList = CompactContextList.map(parameter.getContextListImageFile());
+            } else {
+                contextListReader = getReader("context_list.txt");
+                contextList = CompactContextList.build(contextListReader);
+                contextListReader.close();
             }
-            contextListReader.close();
         } catch (IOException ignored) {
         }
     }
 
+    /**
+     * Finds the roots of the words of the given sentence. The root of a word is the root of its parse with the longest
+     * root word, when the word is analyzed with its first letter capitalized.
+     *
+     * @param sentence the sentence whose roots will be found
+     * @return the roots of the words of the sentence, null for the words without analysis
+     */
+    private String[] sentenceRoots(Sentence sentence) {
+        String[] roots = new String[sentence.wordCount()];
+        for (int i = 0; i < roots.length; i++) {
+            FsmParseList parses = analysisCache.morphologicalAnalysis(Word.toCapital(sentence.getWord(i).getName()));
+            if (parses.size() > 0) {
+                roots[i] = parses.getParseWithLongestRootWord().getWord().getName();
+            }
+        }
+        return roots;
+    }
+
+    /**
+     * Returns the context of the given sentence. The context is computed once and kept for the current thread, so the
+     * words of a sentence are analyzed only once, however many of its words are misspelled. When a document is spell
+     * checked, the context of each sentence is prepared by the spellCheckDocument method.
+     *
+     * @param sentence the sentence whose context will be returned
+     * @return the context of the sentence
+     */
+    private SentenceContext sentenceContext(Sentence sentence) {
+        SentenceContext context = sentenceContext.get();
+        if (context == null || !context.matches(sentence)) {
+            String[] roots = sentenceRoots(sentence);
+            ContextIndex index = new ContextIndex(contextList);
+            index.addAll(roots);
+            context = new SentenceContext(sentence, roots, index);
+            sentenceContext.set(context);
+        }
+        return context;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The candidateList method of this class is not the edit candidate generation, since the candidates are read from the context lists of the neighbouring words.
+     *
+     * @return false
+     */
+    @Override
+    protected boolean hasOnlyEditCandidates() {
+        return false;
+    }
+
     /**
      * Uses context information to generate candidates for a misspelled word.
      * The candidates are the words that are in the context of the neighbouring words of the misspelled word.
-     * Uses the {@link ContextBasedSpellChecker#damerauLevenshteinDistance(String, String)} method to calculate the distance between the misspelled word and
-     * the candidates and to determine whether the candidates are valid.
+     * Uses an {@link EditDistancePattern} of the misspelled word to calculate the bounded Damerau-Levenshtein distance
+     * between the misspelled word and the candidates and to determine whether the candidates are valid.
+     * The roots of the neighbouring words and their merged context candidates are computed once per sentence.
+     * Only the candidates whose length is close to the length of the misspelled word are enumerated, and a candidate
+     * is rejected without computing the distance if its length or letter signature alone rule it out.
      *
      * @param word     the misspelled word
      * @param sentence the sentence containing the misspelled word
@@ -74,78 +172,76 @@ public class ContextBasedSpellChecker extends NGramSpellChecker {
      */
     @Override
     protected ArrayList<Candidate> candidateList(Word word, Sentence sentence) {
-        ArrayList<Word> words = new ArrayList<>(sentence.getWords());
-        HashSet<Candidate> candidates = new HashSet<>();
+        SentenceContext context = sentenceContext(sentence);
         ArrayList<Candidate> validCandidates = new ArrayList<>();
-        words.remove(word);
-        for (Word w : words) {
-            FsmParseList parses = fsm.morphologicalAnalysis(Word.toCapital(w.getName()));
-            if (parses.size() > 0) {
-                String root = parses.getParseWithLongestRootWord().getWord().getName();
-                if (contextList.containsKey(root)) {
-                    for (String s : contextList.get(root)) {
-                        candidates.add(new Candidate(s, Operator.CONTEXT_BASED));
-                    }
-                }
+        EditDistancePattern pattern = new EditDistancePattern(word.getName());
+        String excludedRoot = null;
+        for (int i = 0; i < context.words.length; i++) {
+            if (word.equals(context.words[i])) {
+                excludedRoot = context.roots[i];
+                break;
             }
         }
-        for (Candidate candidate : candidates) {
+        int length = word.getName().length();
+        long signature = CompactContextList.signature(word.getName());
+        for (int id : context.index.candidates(excludedRoot, length - 3, length + 3)) {
+            int candidateLength = contextList.getLength(id);
             int distance;
-            if (candidate.getName().length() < 5) {
+            if (candidateLength < 5) {
                 distance = 1;
             } else {
-                if (candidate.getName().length() < 7) {
+                if (candidateLength < 7) {
                     distance = 2;
                 } else {
                     distance = 3;
                 }
             }
-            if (damerauLevenshteinDistance(word.getName(), candidate.getName()) <= distance) {
-                validCandidates.add(candidate);
+            if (Math.abs(candidateLength - length) > distance || CompactContextList.signatureDistance(signature, contextList.getSignature(id)) > distance) {
+                continue;
+            }
+            String candidate = contextList.getWord(id);
+            if (pattern.distance(candidate, distance) <= distance) {
+                validCandidates.add(new Candidate(candidate, Operator.CONTEXT_BASED));
             }
         }
         return validCandidates;
     }
 
     /**
-     * Calculates the Damerau-Levenshtein distance between two strings.
-     * This method also allows for the transposition of adjacent characters,
-     * which is not possible in a standard Levenshtein distance calculation.
+     * Spell checks the sentences of a document in order. The context candidates of a misspelled word come from the
+     * words of its own sentence and of the sentences within the context window of the parameter before and after it.
+     * The context index is slid through the document: when the next sentence is checked, the roots of the sentence
+     * entering the window are added to the index and the roots of the sentence leaving it are removed, so the roots of
+     * each sentence are found only once.
      *
-     * @param first  the first string
-     * @param second the second string
-     * @return the Damerau-Levenshtein distance between the two strings
+     * @param sentences the sentences of the document
+     * @return the spell checked sentences, in the same order
      */
-    private int damerauLevenshteinDistance(String first, String second) {
-        if (first == null || first.isEmpty()) {
-            return second == null || second.isEmpty() ? 0 : second.length();
+    public ArrayList<Sentence> spellCheckDocument(List<Sentence> sentences) {
+        int window = parameter.getContextWindowSize();
+        String[][] roots = new String[sentences.size()][];
+        ContextIndex index = new ContextIndex(contextList);
+        ArrayList<Sentence> result = new ArrayList<>();
+        for (int i = 0; i < Math.min(window, sentences.size()); i++) {
+            roots[i] = sentenceRoots(sentences.get(i));
+            index.addAll(roots[i]);
         }
-        if (second == null || second.isEmpty()) {
-            return first.length();
-        }
-        int firstLength = first.length();
-        int secondLength = second.length();
-        int[][] distanceMatrix = new int[firstLength + 1][secondLength + 1];
-
-        for (int firstIndex = 0; firstIndex <= firstLength; firstIndex++) {
-            distanceMatrix[firstIndex][0] = firstIndex;
-        }
-        for (int secondIndex = 0; secondIndex <= secondLength; secondIndex++) {
-            distanceMatrix[0][secondIndex] = secondIndex;
-        }
-        for (int firstIndex = 1; firstIndex <= firstLength; firstIndex++) {
-            for (int secondIndex = 1; secondIndex <= secondLength; secondIndex++) {
-                int cost = first.charAt(firstIndex - 1) == second.charAt(secondIndex - 1) ? 0 : 1;
-                distanceMatrix[firstIndex][secondIndex] = Math.min(Math.min(distanceMatrix[firstIndex - 1][secondIndex] + 1,
-                        distanceMatrix[firstIndex][secondIndex - 1] + 1), distanceMatrix[firstIndex - 1][secondIndex - 1] + cost);
-                if (firstIndex == 1 || secondIndex == 1) {
-                    continue;
+        try {
+            for (int i = 0; i < sentences.size(); i++) {
+                if (i + window < sentences.size()) {
+                    roots[i + window] = sentenceRoots(sentences.get(i + window));
+                    index.addAll(roots[i + window]);
                 }
-                if (first.charAt(firstIndex - 1) == second.charAt(secondIndex - 2) && first.charAt(firstIndex - 2) == second.charAt(secondIndex - 1)) {
-                    distanceMatrix[firstIndex][secondIndex] = Math.min(distanceMatrix[firstIndex][secondIndex], distanceMatrix[firstIndex - 2][secondIndex - 2] + cost);
+                if (i - window - 1 >= 0) {
+                    index.removeAll(roots[i - window - 1]);
+                    roots[i - window - 1] = null;
                 }
+                sentenceContext.set(new SentenceContext(sentences.get(i), roots[i], index));
+                result.add(spellCheck(sentences.get(i)));
             }
+        } finally {
+            sentenceContext.remove();
         }
-        return distanceMatrix[firstLength][secondLength];
+        return result;
     }
 }
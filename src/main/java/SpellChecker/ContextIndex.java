@@ -0,0 +1,154 @@
+package SpellChecker;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class ContextIndex {
+    private final CompactContextList contextList;
+    private final ArrayList<LinkedHashMap<Integer, Integer>> support = new ArrayList<>();
+    private int size = 0;
+
+    /**
+     * A constructor of {@link ContextIndex} class, which keeps the merged context candidates of a set of context roots.
+     * For each candidate, the number of context roots having the candidate in their context list is stored, so roots can
+     * be added and removed as sentences enter and leave a sliding window, without recomputing the candidates of the
+     * remaining roots. The candidates are bucketed by their length, so the candidates of a given length range can be
+     * enumerated without visiting the others.
+     *
+     * @param contextList Context lists of the roots, that is, the candidates of each root.
+     */
+    public ContextIndex(CompactContextList contextList) {
+        this.contextList = contextList;
+    }
+
+    /**
+     * Adds the candidates of the given root to the index.
+     *
+     * @param root Root of a context word, null if the word has no analysis.
+     */
+    public void add(String root) {
+        int id = root != null ? contextList.getId(root) : -1;
+        if (id != -1) {
+            for (int i = 0; i < contextList.getContextCount(id); i++) {
+                int candidate = contextList.getContext(id, i);
+                if (bucket(candidate).merge(candidate, 1, Integer::sum) == 1) {
+                    size++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the bucket of the candidates having the same length as the given candidate, creating it if needed.
+     *
+     * @param candidate Identifier of the candidate.
+     * @return Bucket of the candidate.
+     */
+    private LinkedHashMap<Integer, Integer> bucket(int candidate) {
+        int length = contextList.getLength(candidate);
+        while (support.size() <= length) {
+            support.add(new LinkedHashMap<>());
+        }
+        return support.get(length);
+    }
+
+    /**
+     * Removes the candidates of the given root, which was added before, from the index.
+     *
+     * @param root Root of a context word, null if the word has no analysis.
+     */
+    public void remove(String root) {
+        int id = root != null ? contextList.getId(root) : -1;
+        if (id != -1) {
+            for (int i = 0; i < contextList.getContextCount(id); i++) {
+                int candidate = contextList.getContext(id, i);
+                LinkedHashMap<Integer, Integer> bucket = bucket(candidate);
+                Integer count = bucket.get(candidate);
+                if (count != null) {
+                    if (count <= 1) {
+                        bucket.remove(candidate);
+                        size--;
+                    } else {
+                        bucket.put(candidate, count - 1);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the candidates of all given roots to the index.
+     *
+     * @param roots Roots of the words of a sentence, null for the words without analysis.
+     */
+    public void addAll(String[] roots) {
+        for (String root : roots) {
+            add(root);
+        }
+    }
+
+    /**
+     * Removes the candidates of all given roots, which were added before, from the index.
+     *
+     * @param roots Roots of the words of a sentence, null for the words without analysis.
+     */
+    public void removeAll(String[] roots) {
+        for (String root : roots) {
+            remove(root);
+        }
+    }
+
+    /**
+     * Returns the candidates of the roots in the index, leaving out one occurrence of the given root, which is the root
+     * of the word whose candidates are searched.
+     *
+     * @param excludedRoot Root whose own contribution is left out, null if nothing is left out.
+     * @return Candidates contributed by the other roots in the index.
+     */
+    public ArrayList<String> candidates(String excludedRoot) {
+        ArrayList<String> result = new ArrayList<>();
+        for (int id : candidates(excludedRoot, 0, Integer.MAX_VALUE)) {
+            result.add(contextList.getWord(id));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the identifiers of the candidates of the roots in the index whose length is in the given range, leaving
+     * out one occurrence of the given root. Only the buckets of the lengths in the range are visited.
+     *
+     * @param excludedRoot Root whose own contribution is left out, null if nothing is left out.
+     * @param minLength    Minimum length of a candidate.
+     * @param maxLength    Maximum length of a candidate.
+     * @return Identifiers of the candidates contributed by the other roots in the index, in increasing order of length.
+     */
+    public ArrayList<Integer> candidates(String excludedRoot, int minLength, int maxLength) {
+        HashMap<Integer, Integer> excluded = new HashMap<>();
+        int id = excludedRoot != null ? contextList.getId(excludedRoot) : -1;
+        if (id != -1) {
+            for (int i = 0; i < contextList.getContextCount(id); i++) {
+                excluded.merge(contextList.getContext(id, i), 1, Integer::sum);
+            }
+        }
+        ArrayList<Integer> result = new ArrayList<>();
+        for (int length = Math.max(0, minLength); length <= maxLength && length < support.size(); length++) {
+            for (Map.Entry<Integer, Integer> entry : support.get(length).entrySet()) {
+                if (entry.getValue() > excluded.getOrDefault(entry.getKey(), 0)) {
+                    result.add(entry.getKey());
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of distinct candidates in the index.
+     *
+     * @return Number of candidates.
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,179 @@
+package SpellChecker;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+
+public class DawgBuilder {
+    private final Node root = new Node();
+    private final HashMap<Node, Node> register = new HashMap<>();
+    private final ArrayList<Node> uncheckedPath = new ArrayList<>();
+    private String previousWord = "";
+
+    /**
+     * State of the automaton under construction. Its transitions are appended in increasing order of their characters,
+     * since the words are added in sorted order. Once a state is registered, it is never modified, so registered states
+     * can be compared by their accepting flag, characters and the identities of their targets.
+     */
+    private static class Node {
+        private char[] characters = new char[0];
+        private Node[] children = new Node[0];
+        private int childCount = 0;
+        private boolean accepting = false;
+
+        void addChild(char character, Node child) {
+            if (childCount == characters.length) {
+                characters = Arrays.copyOf(characters, Math.max(2, 2 * childCount));
+                children = Arrays.copyOf(children, Math.max(2, 2 * childCount));
+            }
+            characters[childCount] = character;
+            children[childCount] = child;
+            childCount++;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = accepting ? 1 : 0;
+            for (int i = 0; i < childCount; i++) {
+                hash = 31 * (31 * hash + characters[i]) + System.identityHashCode(children[i]);
+            }
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Node)) {
+                return false;
+            }
+            Node other = (Node) o;
+            if (accepting != other.accepting || childCount != other.childCount) {
+                return false;
+            }
+            for (int i = 0; i < childCount; i++) {
+                if (characters[i] != other.characters[i] || children[i] != other.children[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Adds a word to the automaton. Words must be added in increasing order of {@link String#compareTo(String)};
+     * a word equal to the previous word is ignored. The states on the path of the previous word that are not shared
+     * with the new word are minimized, that is, replaced by an equivalent registered state if there is one, so the
+     * automaton merges shared suffixes as well as shared prefixes.
+     *
+     * @param word Word to be added.
+     */
+    public void add(String word) {
+        int comparison = word.compareTo(previousWord);
+        if (comparison < 0) {
+            throw new IllegalArgumentException("Words must be added in sorted order: " + word + " after " + previousWord);
+        }
+        if (comparison == 0 && !uncheckedPath.isEmpty()) {
+            return;
+        }
+        int commonPrefix = 0;
+        while (commonPrefix < Math.min(word.length(), previousWord.length()) && word.charAt(commonPrefix) == previousWord.charAt(commonPrefix)) {
+            commonPrefix++;
+        }
+        minimize(commonPrefix);
+        Node node = commonPrefix == 0 ? root : uncheckedPath.get(commonPrefix - 1);
+        for (int i = commonPrefix; i < word.length(); i++) {
+            Node child = new Node();
+            node.addChild(word.charAt(i), child);
+            uncheckedPath.add(child);
+            node = child;
+        }
+        node.accepting = true;
+        previousWord = word;
+    }
+
+    /**
+     * Minimizes the states of the unchecked path deeper than the given length, starting from the deepest state.
+     *
+     * @param length Number of states of the unchecked path to keep.
+     */
+    private void minimize(int length) {
+        for (int i = uncheckedPath.size() - 1; i >= length; i--) {
+            Node child = uncheckedPath.get(i);
+            Node parent = i == 0 ? root : uncheckedPath.get(i - 1);
+            Node registered = register.get(child);
+            if (registered != null) {
+                parent.children[parent.childCount - 1] = registered;
+            } else {
+                register.put(child, child);
+            }
+            uncheckedPath.remove(i);
+        }
+    }
+
+    /**
+     * Minimizes the remaining states and converts the automaton into a {@link LexiconImage}. The states are numbered
+     * in breadth first order, so the root state becomes state 0. The builder should not be used afterwards.
+     *
+     * @return {@link LexiconImage} accepting the added words.
+     */
+    public LexiconImage build() {
+        minimize(0);
+        register.clear();
+        IdentityHashMap<Node, Integer> states = new IdentityHashMap<>();
+        ArrayList<Node> order = new ArrayList<>();
+        ArrayDeque<Node> queue = new ArrayDeque<>();
+        int transitionCount = 0;
+        states.put(root, 0);
+        order.add(root);
+        queue.add(root);
+        while (!queue.isEmpty()) {
+            Node node = queue.removeFirst();
+            transitionCount += node.childCount;
+            for (int i = 0; i < node.childCount; i++) {
+                if (!states.containsKey(node.children[i])) {
+                    states.put(node.children[i], order.size());
+                    order.add(node.children[i]);
+                    queue.addLast(node.children[i]);
+                }
+            }
+        }
+        ByteBuffer buffer = LexiconImage.allocate(order.size(), transitionCount, 0);
+        int transition = 0;
+        for (int state = 0; state < order.size(); state++) {
+            Node node = order.get(state);
+            LexiconImage.putState(buffer, state, transition, node.childCount, node.accepting);
+            for (int i = 0; i < node.childCount; i++) {
+                LexiconImage.putTransition(buffer, transition, node.characters[i], states.get(node.children[i]));
+                transition++;
+            }
+        }
+        return LexiconImage.wrap(buffer);
+    }
+
+    /**
+     * Builds the minimized automaton of the words read from the given reader, one word per line. The words do not need
+     * to be sorted; they are sorted before being added.
+     *
+     * @param reader Reader of the word list.
+     * @return {@link LexiconImage} accepting the words of the list.
+     * @throws IOException If the word list can not be read.
+     */
+    public static LexiconImage build(BufferedReader reader) throws IOException {
+        ArrayList<String> words = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            words.add(line);
+        }
+        Collections.sort(words);
+        DawgBuilder builder = new DawgBuilder();
+        for (String word : words) {
+            builder.add(word);
+        }
+        return builder.build();
+    }
+}
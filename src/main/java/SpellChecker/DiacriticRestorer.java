@@ -0,0 +1,275 @@
+package SpellChecker;
+
+import java.util.ArrayList;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+public class DiacriticRestorer {
+    private static final int MAXIMUM_VALIDATIONS = 1024;
+    private final Supplier<LexiconAutomaton> lexicon;
+    private final LexiconImage stemIndex;
+    private final Predicate<String> validator;
+
+    /**
+     * A constructor of {@link DiacriticRestorer} class which prunes the restorations by walking the given lexicon.
+     * A restoration is valid if the lexicon contains it, ignoring its case.
+     *
+     * @param lexicon {@link LexiconAutomaton} containing the valid words.
+     */
+    public DiacriticRestorer(LexiconAutomaton lexicon) {
+        this(() -> lexicon);
+    }
+
+    /**
+     * Another constructor of {@link DiacriticRestorer} class which walks the lexicon returned by the given supplier.
+     * The supplier is called once for each restored word, so a lexicon whose states only live for a single search,
+     * such as a {@link MorphologicalLexicon.Session}, can be given.
+     *
+     * @param lexicon Supplier of the {@link LexiconAutomaton} containing the valid words.
+     */
+    public DiacriticRestorer(Supplier<LexiconAutomaton> lexicon) {
+        this.lexicon = lexicon;
+        this.stemIndex = null;
+        this.validator = null;
+    }
+
+    /**
+     * Another constructor of {@link DiacriticRestorer} class for spell checkers without a lexicon of surface forms.
+     * A surface form keeps all but at most the last two characters of its root, and never changes the first one, so
+     * the stems of the roots, together with the roots themselves, are inserted into a {@link LexiconImage}. A
+     * restoration is extended only while its prefix is a prefix of a root, or once it starts with a stem; only the
+     * restorations passing this check are given to the validator.
+     *
+     * @param roots     Root words of the dictionary.
+     * @param validator Predicate returning true for the valid words, such as the words having a morphological analysis.
+     */
+    public DiacriticRestorer(ArrayList<String> roots, Predicate<String> validator) {
+        Trie trie = new Trie();
+        for (String root : roots) {
+            String lowerCase = toLowerCase(root);
+            trie.insert(lowerCase);
+            trie.insert(lowerCase.substring(0, Math.max(1, lowerCase.length() - 2)));
+        }
+        this.lexicon = null;
+        this.stemIndex = LexiconImage.build(trie);
+        this.validator = validator;
+    }
+
+    /**
+     * Converts the given word to lower case in the same way as the lexicon automata do.
+     *
+     * @param word Word to be converted.
+     * @return Lower case form of the word.
+     */
+    private static String toLowerCase(String word) {
+        char[] characters = word.toCharArray();
+        for (int i = 0; i < characters.length; i++) {
+            characters[i] = LexiconAutomaton.toLowerCase(characters[i]);
+        }
+        return new String(characters);
+    }
+
+    /**
+     * Returns the letter with a diacritic written without it in the given character, such as ç for c or İ for I, or
+     * the character itself if it has no such form.
+     *
+     * @param character Character to be restored.
+     * @return Restored form of the character.
+     */
+    public static char restore(char character) {
+        switch (character) {
+            case 'c':
+                return 'ç';
+            case 'g':
+                return 'ğ';
+            case 'i':
+                return 'ı';
+            case 'o':
+                return 'ö';
+            case 's':
+                return 'ş';
+            case 'u':
+                return 'ü';
+            case 'C':
+                return 'Ç';
+            case 'G':
+                return 'Ğ';
+            case 'I':
+                return 'İ';
+            case 'O':
+                return 'Ö';
+            case 'S':
+                return 'Ş';
+            case 'U':
+                return 'Ü';
+            default:
+                return character;
+        }
+    }
+
+    /**
+     * Checks if all characters of the given word are ASCII characters, that is, the word may have been typed on a
+     * keyboard without Turkish letters.
+     *
+     * @param word Word to check.
+     * @return True if the word consists of ASCII characters only.
+     */
+    public static boolean isAscii(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (word.charAt(i) >= 128) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the valid words which differ from the given word only by restoring the diacritics of some of its
+     * letters, the word itself excluded. If a lexicon is given, the diacritic variants are enumerated by a depth first
+     * walk of the lexicon, so a prefix is extended only if the lexicon contains it. Otherwise, the variants are
+     * enumerated by a depth first walk of the stem index, and the variants starting with a stem are checked by the
+     * validator. At most 1024 variants of a word are checked, so a long word with many restorable letters after its
+     * stem can not take an unbounded number of morphological analyses.
+     *
+     * @param word Word to be restored.
+     * @return {@link ArrayList} of the restorations of the word.
+     */
+    public ArrayList<Candidate> restorations(String word) {
+        ArrayList<Candidate> candidates = new ArrayList<>();
+        if (lexicon != null) {
+            LexiconAutomaton automaton = lexicon.get();
+            walkLexicon(automaton, automaton.getRootState(), word, word.toCharArray(), 0, false, candidates);
+            return candidates;
+        }
+        walkStemIndex(stemIndex.getRootState(), word, word.toCharArray(), 0, false, new int[]{MAXIMUM_VALIDATIONS}, candidates);
+        return candidates;
+    }
+
+    /**
+     * Returns the restoration of the given word if the word consists of ASCII characters only and it has exactly one
+     * restoration. Such a word was most probably typed on a keyboard without Turkish letters, so the restoration can
+     * be accepted without generating and scoring any other candidate.
+     *
+     * @param word Word to be restored.
+     * @return The unique restoration of the word, null if the word is not ASCII or it has zero or several restorations.
+     */
+    public Candidate uniqueRestoration(String word) {
+        if (!isAscii(word)) {
+            return null;
+        }
+        ArrayList<Candidate> candidates = restorations(word);
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+        return null;
+    }
+
+    /**
+     * Extends the restoration of the word from the given position. The character at the position is followed in the
+     * lexicon both as it is and, if it has a diacritic form, in its restored form. The restored characters keep the
+     * case of the word, while the lexicon is walked with their lower case forms.
+     *
+     * @param lexicon    {@link LexiconAutomaton} containing the valid words.
+     * @param state      Lexicon state of the restored prefix of the word.
+     * @param word       Word to be restored.
+     * @param characters Characters of the restored prefix, followed by the remaining characters of the word.
+     * @param position   Position of the next character to be restored.
+     * @param restored   True if at least one character of the prefix was restored.
+     * @param candidates Restorations found.
+     */
+    private void walkLexicon(LexiconAutomaton lexicon, int state, String word, char[] characters, int position, boolean restored, ArrayList<Candidate> candidates) {
+        if (position == characters.length) {
+            if (restored && lexicon.isAcceptingState(state)) {
+                candidates.add(new Candidate(new String(characters), Operator.SPELL_CHECK));
+            }
+            return;
+        }
+        char character = word.charAt(position);
+        int next = lexicon.getNextState(state, LexiconAutomaton.toLowerCase(character));
+        if (next != -1) {
+            characters[position] = character;
+            walkLexicon(lexicon, next, word, characters, position + 1, restored, candidates);
+        }
+        char restoredCharacter = restore(character);
+        if (restoredCharacter != character) {
+            next = lexicon.getNextState(state, LexiconAutomaton.toLowerCase(restoredCharacter));
+            if (next != -1) {
+                characters[position] = restoredCharacter;
+                walkLexicon(lexicon, next, word, characters, position + 1, true, candidates);
+            }
+            characters[position] = character;
+        }
+    }
+
+    /**
+     * Extends the restoration of the word from the given position while its prefix is not known to start with a stem.
+     * The character at the position is followed in the stem index both as it is and in its restored form. Once the
+     * state of the prefix is accepting, the prefix starts with a stem, and the rest of the word is restored by the
+     * restoreSuffix method.
+     *
+     * @param state       Stem index state of the restored prefix of the word.
+     * @param word        Word to be restored.
+     * @param characters  Characters of the restored prefix, followed by the remaining characters of the word.
+     * @param position    Position of the next character to be restored.
+     * @param restored    True if at least one character of the prefix was restored.
+     * @param validations Remaining number of variants that can be checked by the validator.
+     * @param candidates  Restorations found.
+     */
+    private void walkStemIndex(int state, String word, char[] characters, int position, boolean restored, int[] validations, ArrayList<Candidate> candidates) {
+        if (stemIndex.isAcceptingState(state)) {
+            restoreSuffix(word, characters, position, restored, validations, candidates);
+            return;
+        }
+        if (position == characters.length) {
+            return;
+        }
+        char character = word.charAt(position);
+        int next = stemIndex.getNextState(state, LexiconAutomaton.toLowerCase(character));
+        if (next != -1) {
+            characters[position] = character;
+            walkStemIndex(next, word, characters, position + 1, restored, validations, candidates);
+        }
+        char restoredCharacter = restore(character);
+        if (restoredCharacter != character) {
+            next = stemIndex.getNextState(state, LexiconAutomaton.toLowerCase(restoredCharacter));
+            if (next != -1) {
+                characters[position] = restoredCharacter;
+                walkStemIndex(next, word, characters, position + 1, true, validations, candidates);
+            }
+            characters[position] = character;
+        }
+    }
+
+    /**
+     * Enumerates the restorations of the remaining characters of a word whose restored prefix starts with a stem, and
+     * adds the restorations accepted by the validator, as long as the number of validations allows.
+     *
+     * @param word        Word to be restored.
+     * @param characters  Characters of the restored prefix, followed by the remaining characters of the word.
+     * @param position    Position of the next character to be restored.
+     * @param restored    True if at least one character of the prefix was restored.
+     * @param validations Remaining number of variants that can be checked by the validator.
+     * @param candidates  Restorations found.
+     */
+    private void restoreSuffix(String word, char[] characters, int position, boolean restored, int[] validations, ArrayList<Candidate> candidates) {
+        if (position == characters.length) {
+            if (restored && validations[0] > 0) {
+                validations[0]--;
+                String name = new String(characters);
+                if (validator.test(name)) {
+                    candidates.add(new Candidate(name, Operator.SPELL_CHECK));
+                }
+            }
+            return;
+        }
+        char character = word.charAt(position);
+        characters[position] = character;
+        restoreSuffix(word, characters, position + 1, restored, validations, candidates);
+        char restoredCharacter = restore(character);
+        if (restoredCharacter != character) {
+            characters[position] = restoredCharacter;
+            restoreSuffix(word, characters, position + 1, true, validations, candidates);
+            characters[position] = character;
+        }
+    }
+}
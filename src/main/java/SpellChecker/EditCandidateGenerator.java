@@ -0,0 +1,199 @@
+package SpellChecker;
+
+import Language.TurkishLanguage;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+public class EditCandidateGenerator {
+    private static final char[] LETTERS = TurkishLanguage.LOWERCASE_LETTERS.toCharArray();
+    private char[] buffer = new char[32];
+    private long[] hashSet = new long[4096];
+    private int[] offsets = new int[4096];
+    private int[] lengths = new int[4096];
+    private char[] characters = new char[4096];
+    private int characterCount;
+
+    /**
+     * The generate method takes a String as an input and produces all strings with edit distance one to the given
+     * word. For each position i, it first swaps the characters at i and i + 1. If the character at i is a letter, it
+     * then deletes it, replaces it with every lowercase Turkish letter and inserts every lowercase Turkish letter
+     * before it (and after it, if i is the last position). Deletions producing pure numbers are skipped.
+     * <p>
+     * Each edit is written into a reusable character buffer. Edits equal to the given word or to an edit generated
+     * before, such as replacing a letter with itself or inserting a letter next to the same letter, are dropped by
+     * a hash set of primitive long hashes. The characters of the edits added to the set are kept in a reusable
+     * character array, so an edit whose hash is already in the set is dropped only if it is equal to the stored edit
+     * with the same hash. Only the surviving edits are converted into strings and passed to the consumer, in the
+     * order they are generated.
+     * <p>
+     * A generator is not thread safe and the consumer must not call generate of the same generator.
+     *
+     * @param word     String input.
+     * @param consumer Consumer called for each distinct edit of the word.
+     */
+    public void generate(String word, Consumer<String> consumer) {
+        int length = word.length();
+        if (buffer.length < length + 1) {
+            buffer = new char[2 * (length + 1)];
+        }
+        clearHashSet(64 * (length + 1));
+        word.getChars(0, length, buffer, 0);
+        add(length);
+        for (int i = 0; i < length; i++) {
+            char current = word.charAt(i);
+            if (i < length - 1) {
+                char next = word.charAt(i + 1);
+                buffer[i] = next;
+                buffer[i + 1] = current;
+                emit(length, consumer);
+                buffer[i] = current;
+                buffer[i + 1] = next;
+            }
+            if (TurkishLanguage.LETTERS.indexOf(current) != -1 || "wxq".indexOf(current) != -1) {
+                word.getChars(i + 1, length, buffer, i);
+                if (!isNumber(length - 1)) {
+                    emit(length - 1, consumer);
+                }
+                word.getChars(i, length, buffer, i);
+                for (char letter : LETTERS) {
+                    buffer[i] = letter;
+                    emit(length, consumer);
+                }
+                buffer[i] = current;
+                word.getChars(i, length, buffer, i + 1);
+                for (char letter : LETTERS) {
+                    buffer[i] = letter;
+                    emit(length + 1, consumer);
+                    if (i == length - 1) {
+                        buffer[i] = current;
+                        buffer[length] = letter;
+                        emit(length + 1, consumer);
+                        buffer[length] = current;
+                    }
+                }
+                word.getChars(i, length, buffer, i);
+            }
+        }
+    }
+
+    /**
+     * Checks if the first length characters of the buffer consist only of digits.
+     *
+     * @param length Number of characters to check.
+     * @return true if the buffer holds a nonempty number, false otherwise.
+     */
+    private boolean isNumber(int length) {
+        if (length == 0) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer[i] < '0' || buffer[i] > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Passes the first length characters of the buffer to the consumer, if they were not generated before.
+     *
+     * @param length   Length of the edit in the buffer.
+     * @param consumer Consumer of the distinct edits.
+     */
+    private void emit(int length, Consumer<String> consumer) {
+        if (add(length)) {
+            consumer.accept(new String(buffer, 0, length));
+        }
+    }
+
+    /**
+     * Empties the hash set, enlarging it if it can not hold the given number of hashes at half load.
+     *
+     * @param expectedSize Maximum number of hashes that will be added.
+     */
+    private void clearHashSet(int expectedSize) {
+        if (hashSet.length < 2 * expectedSize) {
+            int capacity = hashSet.length;
+            while (capacity < 2 * expectedSize) {
+                capacity <<= 1;
+            }
+            hashSet = new long[capacity];
+            offsets = new int[capacity];
+            lengths = new int[capacity];
+        } else {
+            Arrays.fill(hashSet, 0L);
+        }
+        characterCount = 0;
+    }
+
+    /**
+     * Returns the nonzero hash of the first length characters of the buffer.
+     *
+     * @param length Length of the edit in the buffer.
+     * @return Hash of the edit.
+     */
+    long hash(int length) {
+        long hash = length;
+        for (int i = 0; i < length; i++) {
+            hash = (hash + buffer[i]) * 0x9e3779b97f4a7c15L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        if (hash == 0) {
+            hash = 1;
+        }
+        return hash;
+    }
+
+    /**
+     * Checks if the first length characters of the buffer are equal to the edit stored in the given slot of the hash
+     * set.
+     *
+     * @param length Length of the edit in the buffer.
+     * @param index  Slot of the stored edit.
+     * @return true if the edits are equal, false otherwise.
+     */
+    private boolean equalsStored(int length, int index) {
+        if (lengths[index] != length) {
+            return false;
+        }
+        int offset = offsets[index];
+        for (int i = 0; i < length; i++) {
+            if (characters[offset + i] != buffer[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds the first length characters of the buffer to the open addressed hash set, unless an equal edit is already
+     * in the set. Edits with the same hash are told apart by comparing their characters.
+     *
+     * @param length Length of the edit in the buffer.
+     * @return true if the edit was not in the set, false otherwise.
+     */
+    private boolean add(int length) {
+        long hash = hash(length);
+        int mask = hashSet.length - 1;
+        int index = (int) hash & mask;
+        while (hashSet[index] != 0) {
+            if (hashSet[index] == hash && equalsStored(length, index)) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        if (characters.length < characterCount + length) {
+            characters = Arrays.copyOf(characters, 2 * (characterCount + length));
+        }
+        System.arraycopy(buffer, 0, characters, characterCount, length);
+        hashSet[index] = hash;
+        offsets[index] = characterCount;
+        lengths[index] = length;
+        characterCount += length;
+        return true;
+    }
+}
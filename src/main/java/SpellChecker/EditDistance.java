@@ -0,0 +1,87 @@
+package SpellChecker;
+
+public class EditDistance {
+    private static final ThreadLocal<EditDistancePattern> patterns = ThreadLocal.withInitial(() -> new EditDistancePattern(""));
+    private static final ThreadLocal<int[]> rows = ThreadLocal.withInitial(() -> new int[0]);
+
+    /**
+     * Calculates the restricted Damerau-Levenshtein (optimal string alignment) distance between two strings, where
+     * insertion, deletion, substitution and transposition of two adjacent characters cost 1. The calculation stops as
+     * soon as the distance is known to exceed the given bound. If the first string has at most 64 characters, the
+     * distance is computed with bit vectors by an {@link EditDistancePattern} reused by the current thread; when the
+     * first string is compared with many strings, compiling it once into an {@link EditDistancePattern} is faster.
+     *
+     * @param first  the first string
+     * @param second the second string
+     * @param bound  the largest distance of interest
+     * @return the distance between the two strings if it is at most bound, bound + 1 otherwise
+     */
+    public static int boundedDistance(CharSequence first, CharSequence second, int bound) {
+        if (first.length() > 64) {
+            return bandedDistance(first, second, bound);
+        }
+        EditDistancePattern pattern = patterns.get();
+        pattern.compile(first);
+        return pattern.distance(second, bound);
+    }
+
+    /**
+     * Calculates the restricted Damerau-Levenshtein distance between two strings with dynamic programming, where only
+     * the cells at most bound away from the diagonal are computed, since the other cells exceed the bound. The rows are
+     * kept in a buffer reused by the current thread.
+     *
+     * @param first  the first string
+     * @param second the second string
+     * @param bound  the largest distance of interest
+     * @return the distance between the two strings if it is at most bound, bound + 1 otherwise
+     */
+    static int bandedDistance(CharSequence first, CharSequence second, int bound) {
+        int firstLength = first.length();
+        int secondLength = second.length();
+        if (Math.abs(firstLength - secondLength) > bound) {
+            return bound + 1;
+        }
+        int infinity = bound + 1;
+        int width = secondLength + 1;
+        int[] buffer = rows.get();
+        if (buffer.length < 3 * width) {
+            buffer = new int[3 * width];
+            rows.set(buffer);
+        }
+        int previousPreviousRow = 0, previousRow = width, currentRow = 2 * width;
+        for (int secondIndex = 0; secondIndex <= secondLength; secondIndex++) {
+            buffer[previousRow + secondIndex] = Math.min(secondIndex, infinity);
+            buffer[previousPreviousRow + secondIndex] = infinity;
+        }
+        for (int firstIndex = 1; firstIndex <= firstLength; firstIndex++) {
+            int low = Math.max(1, firstIndex - bound);
+            int high = Math.min(secondLength, firstIndex + bound);
+            buffer[currentRow] = Math.min(firstIndex, infinity);
+            if (low > 1) {
+                buffer[currentRow + low - 1] = infinity;
+            }
+            int rowMinimum = buffer[currentRow];
+            for (int secondIndex = low; secondIndex <= high; secondIndex++) {
+                int cost = first.charAt(firstIndex - 1) == second.charAt(secondIndex - 1) ? 0 : 1;
+                int distance = Math.min(Math.min(buffer[previousRow + secondIndex] + 1, buffer[currentRow + secondIndex - 1] + 1), buffer[previousRow + secondIndex - 1] + cost);
+                if (firstIndex > 1 && secondIndex > 1 && first.charAt(firstIndex - 1) == second.charAt(secondIndex - 2) && first.charAt(firstIndex - 2) == second.charAt(secondIndex - 1)) {
+                    distance = Math.min(distance, buffer[previousPreviousRow + secondIndex - 2] + 1);
+                }
+                distance = Math.min(distance, infinity);
+                buffer[currentRow + secondIndex] = distance;
+                rowMinimum = Math.min(rowMinimum, distance);
+            }
+            if (high < secondLength) {
+                buffer[currentRow + high + 1] = infinity;
+            }
+            if (rowMinimum > bound) {
+                return infinity;
+            }
+            int tmp = previousPreviousRow;
+            previousPreviousRow = previousRow;
+            previousRow = currentRow;
+            currentRow = tmp;
+        }
+        return Math.min(buffer[previousRow + secondLength], infinity);
+    }
+}
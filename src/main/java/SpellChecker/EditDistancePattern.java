@@ -0,0 +1,133 @@
+package SpellChecker;
+
+import java.util.Arrays;
+
+public class EditDistancePattern {
+    private static final int TABLE_SIZE = 128;
+    private String pattern;
+    private final char[] keys = new char[TABLE_SIZE];
+    private final boolean[] used = new boolean[TABLE_SIZE];
+    private final long[] masks = new long[TABLE_SIZE];
+
+    /**
+     * A constructor of {@link EditDistancePattern} class, which compiles the given word for computing its restricted
+     * Damerau-Levenshtein (optimal string alignment) distance to many other words. For each distinct character of the
+     * word, the bit vector of the positions of the character in the word is stored, so the distance to another word can
+     * be computed one column at a time with a few bitwise operations, as in the algorithm of Myers extended with
+     * transpositions by Hyyrö. Words longer than 64 characters fall back to a banded dynamic programming.
+     *
+     * @param pattern Word to be compiled.
+     */
+    public EditDistancePattern(CharSequence pattern) {
+        compile(pattern);
+    }
+
+    /**
+     * Compiles a new word, reusing the tables of the pattern.
+     *
+     * @param pattern Word to be compiled.
+     */
+    public void compile(CharSequence pattern) {
+        this.pattern = pattern.toString();
+        Arrays.fill(used, false);
+        if (this.pattern.length() <= 64) {
+            for (int i = 0; i < this.pattern.length(); i++) {
+                int slot = slot(this.pattern.charAt(i));
+                if (!used[slot]) {
+                    used[slot] = true;
+                    keys[slot] = this.pattern.charAt(i);
+                    masks[slot] = 0;
+                }
+                masks[slot] |= 1L << i;
+            }
+        }
+    }
+
+    /**
+     * Returns the slot of the given character in the open addressed character table, which is either the slot holding
+     * the character or the empty slot where it would be inserted. The table has at most 64 characters in 128 slots.
+     *
+     * @param character Character to be searched for.
+     * @return Slot of the character.
+     */
+    private int slot(char character) {
+        int slot = (character * 0x9E3779B1) >>> 25;
+        while (used[slot] && keys[slot] != character) {
+            slot = (slot + 1) & (TABLE_SIZE - 1);
+        }
+        return slot;
+    }
+
+    /**
+     * Returns the bit vector of the positions of the given character in the compiled word.
+     *
+     * @param character Character to be searched for.
+     * @return Bit vector of the positions, 0 if the character does not occur in the word.
+     */
+    private long mask(char character) {
+        int slot = slot(character);
+        return used[slot] ? masks[slot] : 0;
+    }
+
+    /**
+     * Returns the compiled word.
+     *
+     * @return Compiled word.
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Calculates the restricted Damerau-Levenshtein distance between the compiled word and the given text, where
+     * insertion, deletion, substitution and transposition of two adjacent characters cost 1. The calculation does not
+     * allocate memory, and it stops as soon as the distance is known to exceed the given bound: after reading a prefix
+     * of the text, the distance can decrease by at most the number of remaining characters.
+     *
+     * @param text  the word to be compared with the compiled word
+     * @param bound the largest distance of interest
+     * @return the distance between the two words if it is at most bound, bound + 1 otherwise
+     */
+    public int distance(CharSequence text, int bound) {
+        int patternLength = pattern.length();
+        int textLength = text.length();
+        if (Math.abs(patternLength - textLength) > bound) {
+            return bound + 1;
+        }
+        if (patternLength == 0) {
+            return textLength;
+        }
+        if (patternLength > 64) {
+            return EditDistance.bandedDistance(pattern, text, bound);
+        }
+        long lastBit = 1L << (patternLength - 1);
+        long verticalPositive = -1L;
+        long verticalNegative = 0;
+        long previousDiagonal = 0;
+        long previousMatch = 0;
+        int score = patternLength;
+        for (int j = 0; j < textLength; j++) {
+            long match = mask(text.charAt(j));
+            long transposition = (((~previousDiagonal) & match) << 1) & previousMatch;
+            long diagonal = (((match & verticalPositive) + verticalPositive) ^ verticalPositive) | match | verticalNegative | transposition;
+            long horizontalPositive = verticalNegative | ~(diagonal | verticalPositive);
+            long horizontalNegative = diagonal & verticalPositive;
+            if ((horizontalPositive & lastBit) != 0) {
+                score++;
+            } else {
+                if ((horizontalNegative & lastBit) != 0) {
+                    score--;
+                }
+            }
+            if (score - (textLength - j - 1) > bound) {
+                return bound + 1;
+            }
+            long shifted = (horizontalPositive << 1) | 1;
+            verticalNegative = shifted & diagonal;
+            verticalPositive = (horizontalNegative << 1) | ~(shifted | diagonal);
+            previousDiagonal = diagonal;
+            previousMatch = match;
+        }
+        return Math.min(score, bound + 1);
+    }
+}
@@ -0,0 +1,144 @@
+package SpellChecker;
+
+/**
+ * Deterministic automaton accepting the words of a lexicon. States are identified by integers, and the transitions of
+ * a state are sorted by their characters.
+ */
+public interface LexiconAutomaton {
+
+    /**
+     * Returns the initial state of the automaton.
+     *
+     * @return Initial state.
+     */
+    int getRootState();
+
+    /**
+     * Returns the state reached from the given state with the given character.
+     *
+     * @param state     Current state.
+     * @param character Character of the transition.
+     * @return Next state, -1 if there is no transition with the character.
+     */
+    int getNextState(int state, char character);
+
+    /**
+     * Checks if the given state is the end of a word.
+     *
+     * @param state State to check.
+     * @return true if the state is an accepting state, false otherwise.
+     */
+    boolean isAcceptingState(int state);
+
+    /**
+     * Returns the number of transitions leaving the given state.
+     *
+     * @param state State whose transitions will be counted.
+     * @return Number of transitions of the state.
+     */
+    int getTransitionCount(int state);
+
+    /**
+     * Returns the character of the transition at the given position.
+     *
+     * @param state State whose transition will be returned.
+     * @param index Position of the transition, transitions being sorted by character.
+     * @return Character of the transition.
+     */
+    char getTransitionCharacter(int state, int index);
+
+    /**
+     * Returns the target state of the transition at the given position.
+     *
+     * @param state State whose transition will be returned.
+     * @param index Position of the transition, transitions being sorted by character.
+     * @return Target state of the transition.
+     */
+    int getTransitionTarget(int state, int index);
+
+    /**
+     * Returns the characters of all transitions leaving the given state.
+     *
+     * @param state State whose transitions will be returned.
+     * @return String of the transition characters, in increasing order.
+     */
+    default String childrenToString(int state) {
+        int count = getTransitionCount(state);
+        char[] characters = new char[count];
+        for (int i = 0; i < count; i++) {
+            characters[i] = getTransitionCharacter(state, i);
+        }
+        return new String(characters);
+    }
+
+    /**
+     * Returns the state reached from the root state by reading the given word.
+     *
+     * @param word Word to be read.
+     * @return State reached, -1 if the word is not a prefix of any word in the lexicon.
+     */
+    default int getState(String word) {
+        int state = getRootState();
+        for (int i = 0; i < word.length() && state != -1; i++) {
+            state = getNextState(state, word.charAt(i));
+        }
+        return state;
+    }
+
+    /**
+     * Returns the state reached from the given state by reading the characters of the word starting from the given
+     * position, each character being converted to lower case. Only the characters after the given position are read,
+     * so a traversal can be continued from a state reached before without copying the word.
+     *
+     * @param state Initial state.
+     * @param word  Word to be read.
+     * @param start Position of the first character to be read.
+     * @return State reached, -1 if there is no such path in the automaton.
+     */
+    default int getStateIgnoreCase(int state, String word, int start) {
+        for (int i = start; i < word.length() && state != -1; i++) {
+            state = getNextState(state, toLowerCase(word.charAt(i)));
+        }
+        return state;
+    }
+
+    /**
+     * Checks if a word is in the lexicon, ignoring the case of the word.
+     *
+     * @param word The word to be searched for
+     * @return true if the word is in the lexicon, false otherwise
+     */
+    default boolean search(String word) {
+        int state = getStateIgnoreCase(getRootState(), word, 0);
+        return state != -1 && isAcceptingState(state);
+    }
+
+    /**
+     * Checks if a given prefix exists in the lexicon, ignoring the case of the prefix.
+     *
+     * @param prefix The prefix to be searched for
+     * @return true if the prefix exists, false otherwise
+     */
+    default boolean startsWith(String prefix) {
+        return getStateIgnoreCase(getRootState(), prefix, 0) != -1;
+    }
+
+    /**
+     * Converts a character to lower case with the Turkish rules, that is, 'I' is converted to 'ı' and 'İ' is converted
+     * to 'i'. This gives the same characters as converting a string to lower case in the Turkish locale, without
+     * allocating a new string.
+     *
+     * @param character Character to be converted.
+     * @return Lower case form of the character.
+     */
+    static char toLowerCase(char character) {
+        switch (character) {
+            case 'I':
+                return 'ı';
+            case 'İ':
+                return 'i';
+            default:
+                return Character.toLowerCase(character);
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package SpellChecker;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+
+public class LexiconImage implements LexiconAutomaton {
+    private static final int MAGIC = 0x4c584943;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 20;
+    private final ByteBuffer buffer;
+    private final int stateCount;
+    private final int transitionCount;
+    private final int rootState;
+    private final int labelOffset;
+    private final int targetOffset;
+
+    /**
+     * A constructor of {@link LexiconImage} class which reads the automaton stored in the given buffer. The buffer
+     * starts with a header of five integers: a magic number, the version, the number of states, the number of
+     * transitions and the root state. Then, for each state, the index of its first transition and its transition
+     * count shifted left by one and or'ed with its accepting flag are stored. The characters of all transitions
+     * follow, padded to a multiple of four bytes, and finally the target states of all transitions. The transitions
+     * of each state are contiguous and sorted by character.
+     *
+     * @param buffer Buffer containing the image.
+     * @throws IOException If the buffer does not contain a lexicon image, or is shorter than its header requires.
+     */
+    private LexiconImage(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Not a lexicon image");
+        }
+        stateCount = buffer.getInt(8);
+        transitionCount = buffer.getInt(12);
+        rootState = buffer.getInt(16);
+        if (stateCount <= 0 || transitionCount < 0 || rootState < 0 || rootState >= stateCount
+                || buffer.capacity() < imageSize(stateCount, transitionCount)) {
+            throw new IOException("Truncated lexicon image");
+        }
+        labelOffset = HEADER_SIZE + 8 * stateCount;
+        targetOffset = labelOffset + ((2 * transitionCount + 3) & ~3);
+    }
+
+    /**
+     * Returns the size in bytes of an image with the given number of states and transitions.
+     *
+     * @param stateCount      Number of states.
+     * @param transitionCount Number of transitions.
+     * @return Size of the image in bytes.
+     */
+    private static long imageSize(long stateCount, long transitionCount) {
+        return HEADER_SIZE + 8 * stateCount + ((2 * transitionCount + 3) & ~3) + 4 * transitionCount;
+    }
+
+    /**
+     * Allocates a heap buffer for an image with the given number of states and transitions and writes its header.
+     *
+     * @param stateCount      Number of states.
+     * @param transitionCount Number of transitions.
+     * @param rootState       Root state of the automaton.
+     * @return Buffer of the image.
+     * @throws IllegalArgumentException If the image would be larger than 2 GB.
+     */
+    static ByteBuffer allocate(int stateCount, int transitionCount, int rootState) {
+        long size = imageSize(stateCount, transitionCount);
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Lexicon image of " + size + " bytes is larger than 2 GB");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(8, stateCount);
+        buffer.putInt(12, transitionCount);
+        buffer.putInt(16, rootState);
+        return buffer;
+    }
+
+    /**
+     * Writes a state to the image buffer.
+     *
+     * @param buffer          Buffer of the image.
+     * @param state           Index of the state.
+     * @param firstTransition Index of the first transition of the state.
+     * @param count           Number of transitions of the state.
+     * @param accepting       True if the state is the end of a word.
+     */
+    static void putState(ByteBuffer buffer, int state, int firstTransition, int count, boolean accepting) {
+        buffer.putInt(HEADER_SIZE + 8 * state, firstTransition);
+        buffer.putInt(HEADER_SIZE + 8 * state + 4, (count << 1) | (accepting ? 1 : 0));
+    }
+
+    /**
+     * Writes a transition to the image buffer.
+     *
+     * @param buffer     Buffer of the image.
+     * @param transition Index of the transition.
+     * @param label      Character of the transition.
+     * @param target     Target state of the transition.
+     */
+    static void putTransition(ByteBuffer buffer, int transition, char label, int target) {
+        int stateCount = buffer.getInt(8);
+        int transitionCount = buffer.getInt(12);
+        int labelOffset = HEADER_SIZE + 8 * stateCount;
+        buffer.putChar(labelOffset + 2 * transition, label);
+        buffer.putInt(labelOffset + ((2 * transitionCount + 3) & ~3) + 4 * transition, target);
+    }
+
+    /**
+     * Wraps the given buffer filled by the putState and putTransition methods.
+     *
+     * @param buffer Buffer of the image.
+     * @return {@link LexiconImage} backed by the buffer.
+     */
+    static LexiconImage wrap(ByteBuffer buffer) {
+        try {
+            return new LexiconImage(buffer);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Builds the image of the given {@link Trie} in a heap buffer. The nodes of the trie are numbered in breadth first
+     * order, so the root node becomes state 0.
+     *
+     * @param trie {@link Trie} to be converted.
+     * @return {@link LexiconImage} accepting the words of the trie.
+     */
+    public static LexiconImage build(Trie trie) {
+        TrieNode root = trie.getTrieNode("");
+        int stateCount = 0, transitionCount = 0;
+        ArrayDeque<TrieNode> nodes = new ArrayDeque<>();
+        nodes.add(root);
+        while (!nodes.isEmpty()) {
+            TrieNode node = nodes.removeFirst();
+            stateCount++;
+            transitionCount += node.childCount();
+            for (int i = 0; i < node.childCount(); i++) {
+                nodes.addLast(node.getChildAt(i));
+            }
+        }
+        ByteBuffer buffer = allocate(stateCount, transitionCount, 0);
+        int state = 0, nextState = 1, transition = 0;
+        nodes.add(root);
+        while (!nodes.isEmpty()) {
+            TrieNode node = nodes.removeFirst();
+            putState(buffer, state, transition, node.childCount(), node.isWord());
+            for (int i = 0; i < node.childCount(); i++) {
+                putTransition(buffer, transition, node.getCharacter(i), nextState);
+                nodes.addLast(node.getChildAt(i));
+                nextState++;
+                transition++;
+            }
+            state++;
+        }
+        return wrap(buffer);
+    }
+
+    /**
+     * Builds the image of the words read from the given reader, one word per line. This is the offline step producing
+     * the image file, which can later be memory mapped with the map method.
+     *
+     * @param reader Reader of the word list.
+     * @return {@link LexiconImage} accepting the words of the list.
+     * @throws IOException If the word list can not be read.
+     */
+    public static LexiconImage build(BufferedReader reader) throws IOException {
+        Trie trie = new Trie();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            trie.insert(line);
+        }
+        return build(trie);
+    }
+
+    /**
+     * Memory maps the image stored in the given file. The image is not copied to the heap, and the pages of the file
+     * are shared by all processes mapping the same file.
+     *
+     * @param fileName Name of the image file.
+     * @return {@link LexiconImage} backed by the mapped file.
+     * @throws IOException If the file can not be mapped, is larger than 2 GB, does not contain a lexicon image or is
+     *                     shorter than its header requires.
+     */
+    public static LexiconImage map(String fileName) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Lexicon image " + fileName + " is larger than 2 GB");
+            }
+            return new LexiconImage(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Saves the image to the given file.
+     *
+     * @param fileName Name of the image file.
+     * @throws IOException If the file can not be written.
+     */
+    public void save(String fileName) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer source = buffer.duplicate();
+            source.position(0);
+            source.limit((int) imageSize(stateCount, transitionCount));
+            while (source.hasRemaining()) {
+                channel.write(source);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of states of the automaton.
+     *
+     * @return Number of states.
+     */
+    public int getStateCount() {
+        return stateCount;
+    }
+
+    @Override
+    public int getRootState() {
+        return rootState;
+    }
+
+    @Override
+    public int getNextState(int state, char character) {
+        int first = buffer.getInt(HEADER_SIZE + 8 * state);
+        int low = first, high = first + getTransitionCount(state) - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            char label = buffer.getChar(labelOffset + 2 * middle);
+            if (label < character) {
+                low = middle + 1;
+            } else {
+                if (label > character) {
+                    high = middle - 1;
+                } else {
+                    return buffer.getInt(targetOffset + 4 * middle);
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean isAcceptingState(int state) {
+        return (buffer.getInt(HEADER_SIZE + 8 * state + 4) & 1) != 0;
+    }
+
+    @Override
+    public int getTransitionCount(int state) {
+        return buffer.getInt(HEADER_SIZE + 8 * state + 4) >>> 1;
+    }
+
+    @Override
+    public char getTransitionCharacter(int state, int index) {
+        return buffer.getChar(labelOffset + 2 * (buffer.getInt(HEADER_SIZE + 8 * state) + index));
+    }
+
+    @Override
+    public int getTransitionTarget(int state, int index) {
+        return buffer.getInt(targetOffset + 4 * (buffer.getInt(HEADER_SIZE + 8 * state) + index));
+    }
+}
@@ -0,0 +1,361 @@
+package SpellChecker;
+
+import Dictionary.TxtDictionary;
+import Dictionary.TxtWord;
+import Dictionary.Word;
+import MorphologicalAnalysis.FsmParse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class MorphologicalLexicon {
+    private static final int SHORT_ROOT_LENGTH = 3;
+    private final AnalysisCache analysisCache;
+    private final int maxLength;
+    private final String[] roots;
+    private final String[][] rootsByLength;
+    private final ConcurrentLruCache<String, State> states;
+    private final ConcurrentHashMap<Character, String[]> shortRootForms = new ConcurrentHashMap<>();
+    private final ConcurrentLruCache<String, String[]> generatedForms;
+
+    /**
+     * Transitions and accepting flag of an expanded prefix.
+     */
+    private static class State {
+        private final char[] characters;
+        private final boolean accepting;
+
+        State(char[] characters, boolean accepting) {
+            this.characters = characters;
+            this.accepting = accepting;
+        }
+    }
+
+    /**
+     * The lexicon automaton seen by a single search. A state of a session is the index of a prefix visited by the
+     * session, so the states held by the search never change or disappear, whatever happens to the shared caches of
+     * the lexicon. A session is not thread safe and is meant to be dropped when its search ends, which releases the
+     * states it visited.
+     */
+    public class Session implements LexiconAutomaton {
+        private final ArrayList<String> prefixes = new ArrayList<>();
+        private final ArrayList<State> expanded = new ArrayList<>();
+        private final HashMap<String, Integer> stateIds = new HashMap<>();
+
+        private Session() {
+            stateId("");
+        }
+
+        /**
+         * Returns the state of the given prefix in this session, assigning a new state if the prefix was not visited
+         * before.
+         *
+         * @param prefix Prefix of a surface form.
+         * @return State of the prefix.
+         */
+        private int stateId(String prefix) {
+            Integer id = stateIds.get(prefix);
+            if (id == null) {
+                id = prefixes.size();
+                prefixes.add(prefix);
+                expanded.add(null);
+                stateIds.put(prefix, id);
+            }
+            return id;
+        }
+
+        /**
+         * Returns the expanded form of the given state, reading it from the shared cache of the lexicon, or expanding
+         * its prefix if the cache does not have it.
+         *
+         * @param state State of this session.
+         * @return Transitions and accepting flag of the state.
+         */
+        private State state(int state) {
+            State result = expanded.get(state);
+            if (result == null) {
+                result = MorphologicalLexicon.this.state(prefixes.get(state));
+                expanded.set(state, result);
+            }
+            return result;
+        }
+
+        /**
+         * Returns the prefix of the given state.
+         *
+         * @param state State of this session.
+         * @return Prefix read from the root state to the state.
+         */
+        public String getPrefix(int state) {
+            return prefixes.get(state);
+        }
+
+        /**
+         * Returns the number of states visited by this session.
+         *
+         * @return Number of visited states.
+         */
+        public int getStateCount() {
+            return prefixes.size();
+        }
+
+        @Override
+        public int getRootState() {
+            return 0;
+        }
+
+        @Override
+        public int getNextState(int state, char character) {
+            if (Arrays.binarySearch(state(state).characters, character) < 0) {
+                return -1;
+            }
+            return stateId(prefixes.get(state) + character);
+        }
+
+        @Override
+        public boolean isAcceptingState(int state) {
+            return state(state).accepting;
+        }
+
+        @Override
+        public int getTransitionCount(int state) {
+            return state(state).characters.length;
+        }
+
+        @Override
+        public char getTransitionCharacter(int state, int index) {
+            return state(state).characters[index];
+        }
+
+        @Override
+        public int getTransitionTarget(int state, int index) {
+            return stateId(prefixes.get(state) + state(state).characters[index]);
+        }
+    }
+
+    /**
+     * A constructor of {@link MorphologicalLexicon} class, which is a lexicon automaton composed of the root dictionary
+     * of the morphological analyzer and its suffix morphotactics. Nothing is generated in advance: a state is a prefix
+     * of a surface form, and its transitions are found when the state is first visited. A prefix is accepting if it has
+     * a morphological analysis. The characters following a prefix are read from the roots starting with the prefix, and
+     * from the surface forms generated from the roots that may change at most their last two characters to form the
+     * prefix, such as kitap to kitab. A root never changes its first character, so the roots of at most three
+     * characters are expanded once per first character. The expanded prefixes and the generated surface forms are kept
+     * in least recently used caches shared by all searches, so the memory used is bounded by the cache size and does
+     * not grow with the part of the lexicon visited over time. The automaton itself is walked through a
+     * {@link Session}, whose states are identified by their prefixes, so a prefix evicted from the cache is expanded
+     * again instead of being lost.
+     *
+     * @param analysisCache {@link AnalysisCache} of the morphological analyzer.
+     * @param maxLength     Maximum length of the generated surface forms.
+     * @param cacheSize     Maximum number of expanded prefixes kept in the cache.
+     */
+    public MorphologicalLexicon(AnalysisCache analysisCache, int maxLength, int cacheSize) {
+        this.analysisCache = analysisCache;
+        this.maxLength = maxLength;
+        this.states = new ConcurrentLruCache<>(cacheSize);
+        this.generatedForms = new ConcurrentLruCache<>(Math.max(cacheSize / 100, Math.min(cacheSize, 1000)));
+        TxtDictionary dictionary = analysisCache.getDictionary();
+        ArrayList<String> names = new ArrayList<>();
+        int longest = 0;
+        for (int i = 0; i < dictionary.size(); i++) {
+            Word word = dictionary.getWord(i);
+            if (word instanceof TxtWord && !word.getName().isEmpty()) {
+                names.add(word.getName());
+                longest = Math.max(longest, word.getName().length());
+            }
+        }
+        roots = names.toArray(new String[0]);
+        Arrays.sort(roots);
+        int[] counts = new int[longest + 1];
+        for (String root : roots) {
+            counts[root.length()]++;
+        }
+        rootsByLength = new String[longest + 1][];
+        for (int length = 0; length <= longest; length++) {
+            rootsByLength[length] = new String[counts[length]];
+            counts[length] = 0;
+        }
+        for (String root : roots) {
+            rootsByLength[root.length()][counts[root.length()]++] = root;
+        }
+    }
+
+    /**
+     * Starts a new search of the lexicon. The states of the returned session stay valid as long as the session is used.
+     *
+     * @return A new {@link Session} of the lexicon.
+     */
+    public Session newSession() {
+        return new Session();
+    }
+
+    /**
+     * Returns the expanded form of the given prefix, expanding it if it is not in the cache.
+     *
+     * @param prefix Prefix of a surface form.
+     * @return Transitions and accepting flag of the prefix.
+     */
+    private State state(String prefix) {
+        State state = states.get(prefix);
+        if (state == null) {
+            state = expand(prefix);
+            states.put(prefix, state);
+        }
+        return state;
+    }
+
+    /**
+     * Finds the characters that can follow the given prefix in a surface form, and checks if the prefix itself is a
+     * surface form. A surface form keeps all but at most the last two characters of its root, so if the prefix is
+     * shorter than the root by at least three characters, the next character is the next character of the root.
+     * Otherwise, the surface forms of the root are generated. The surface forms of the roots of at most three
+     * characters are read from the forms of all such roots with the same first character.
+     *
+     * @param prefix Prefix to be expanded.
+     * @return Transitions and accepting flag of the state of the prefix.
+     */
+    private State expand(String prefix) {
+        BitSet next = new BitSet();
+        int length = prefix.length();
+        if (length == 0) {
+            for (String root : roots) {
+                next.set(root.charAt(0));
+            }
+        } else {
+            int[] range = prefixRange(roots, prefix);
+            for (int i = range[0]; i < range[1]; i++) {
+                if (roots[i].length() >= length + 3) {
+                    next.set(roots[i].charAt(length));
+                }
+            }
+            addNextCharacters(shortRootForms(prefix.charAt(0)), prefix, next);
+            for (int rootLength = SHORT_ROOT_LENGTH + 1; rootLength < rootsByLength.length && rootLength <= length + 2; rootLength++) {
+                String[] candidates = rootsByLength[rootLength];
+                range = prefixRange(candidates, prefix.substring(0, rootLength - 2));
+                for (int i = range[0]; i < range[1]; i++) {
+                    addNextCharacters(surfaceForms(candidates[i]), prefix, next);
+                }
+            }
+        }
+        char[] characters = new char[next.cardinality()];
+        int index = 0;
+        for (int c = next.nextSetBit(0); c >= 0; c = next.nextSetBit(c + 1)) {
+            characters[index++] = (char) c;
+        }
+        return new State(characters, !prefix.isEmpty() && analysisCache.hasParse(prefix));
+    }
+
+    /**
+     * Marks the characters following the given prefix in the sorted surface forms starting with the prefix.
+     *
+     * @param forms  Sorted surface forms.
+     * @param prefix Prefix of the surface forms.
+     * @param next   Set of the characters following the prefix.
+     */
+    private static void addNextCharacters(String[] forms, String prefix, BitSet next) {
+        int[] range = prefixRange(forms, prefix);
+        for (int i = range[0]; i < range[1]; i++) {
+            if (forms[i].length() > prefix.length()) {
+                next.set(forms[i].charAt(prefix.length()));
+            }
+        }
+    }
+
+    /**
+     * Returns the sorted surface forms of all roots of at most three characters starting with the given character,
+     * generating them the first time the character is seen. Since all such roots share the first character of a prefix
+     * they may form, each of them would be expanded for every prefix otherwise.
+     *
+     * @param first First character of the roots.
+     * @return Sorted surface forms of the short roots, not longer than the maximum length.
+     */
+    private String[] shortRootForms(char first) {
+        String[] forms = shortRootForms.get(first);
+        if (forms == null) {
+            ArrayList<String> allForms = new ArrayList<>();
+            String firstCharacter = String.valueOf(first);
+            for (int rootLength = 1; rootLength <= SHORT_ROOT_LENGTH && rootLength < rootsByLength.length; rootLength++) {
+                int[] range = prefixRange(rootsByLength[rootLength], firstCharacter);
+                for (int i = range[0]; i < range[1]; i++) {
+                    allForms.addAll(Arrays.asList(generateForms(rootsByLength[rootLength][i])));
+                }
+            }
+            forms = allForms.toArray(new String[0]);
+            Arrays.sort(forms);
+            shortRootForms.put(first, forms);
+        }
+        return forms;
+    }
+
+    /**
+     * Returns the sorted surface forms generated from the given root, generating them if they are not in the cache.
+     *
+     * @param root Root word.
+     * @return Sorted surface forms of the root, not longer than the maximum length.
+     */
+    private String[] surfaceForms(String root) {
+        String[] forms = generatedForms.get(root);
+        if (forms == null) {
+            forms = generateForms(root);
+            generatedForms.put(root, forms);
+        }
+        return forms;
+    }
+
+    /**
+     * Generates the sorted surface forms of the given root by the morphological analyzer.
+     *
+     * @param root Root word.
+     * @return Sorted surface forms of the root, not longer than the maximum length.
+     */
+    private String[] generateForms(String root) {
+        TxtWord word = (TxtWord) analysisCache.getDictionary().getWord(root);
+        ArrayList<FsmParse> parses = analysisCache.generateAllParses(word, maxLength);
+        String[] forms = new String[parses.size()];
+        for (int i = 0; i < forms.length; i++) {
+            forms[i] = parses.get(i).getSurfaceForm();
+        }
+        Arrays.sort(forms);
+        return forms;
+    }
+
+    /**
+     * Returns the range of the strings starting with the given prefix in a sorted array.
+     *
+     * @param sorted Sorted array of strings.
+     * @param prefix Prefix to be searched for.
+     * @return Start (inclusive) and end (exclusive) of the range.
+     */
+    private static int[] prefixRange(String[] sorted, String prefix) {
+        int start = lowerBound(sorted, prefix);
+        int end = start;
+        while (end < sorted.length && sorted[end].startsWith(prefix)) {
+            end++;
+        }
+        return new int[]{start, end};
+    }
+
+    /**
+     * Returns the position of the first string not smaller than the given string in a sorted array.
+     *
+     * @param sorted Sorted array of strings.
+     * @param key    String to be searched for.
+     * @return Position of the first string not smaller than the key.
+     */
+    private static int lowerBound(String[] sorted, String key) {
+        int low = 0, high = sorted.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sorted[middle].compareTo(key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
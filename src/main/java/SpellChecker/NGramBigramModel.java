@@ -0,0 +1,27 @@
+package SpellChecker;
+
+import Ngram.NGram;
+
+public class NGramBigramModel implements BigramModel {
+    private final NGram<String> nGram;
+
+    /**
+     * A constructor of {@link NGramBigramModel} class which serves the bigram probabilities of the given {@link NGram}.
+     *
+     * @param nGram {@link NGram} type input.
+     */
+    public NGramBigramModel(NGram<String> nGram) {
+        this.nGram = nGram;
+    }
+
+    /**
+     * Returns the bigram probability P(word2 | word1) of the n-gram model.
+     *
+     * @param word1 First word in the bigram.
+     * @param word2 Second word in the bigram.
+     * @return Bigram probability P(word2 | word1).
+     */
+    public double getProbability(String word1, String word2) {
+        return nGram.getProbability(word1, word2);
+    }
+}
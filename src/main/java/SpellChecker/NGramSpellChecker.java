@@ -6,35 +6,117 @@ import MorphologicalAnalysis.FsmMorphologicalAnalyzer;
 import MorphologicalAnalysis.FsmParseList;
 import Ngram.NGram;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 
 public class NGramSpellChecker extends SimpleSpellChecker {
-    private final NGram<String> nGram;
+    private final BigramModel bigramModel;
+    private final ConcurrentLruCache<String, Double> bigramCache;
+    private static final double MINIMUM_PROBABILITY = 1e-12;
+
+    private static class LatticeArc {
+        private final int start;
+        private final int end;
+        private final Word[] words;
+        private final Word[] roots;
+        private final boolean[] misspelled;
+        private Double score = null;
+
+        /**
+         * A constructor of {@link LatticeArc} class, which replaces the words of the sentence from start to end with the
+         * given words.
+         *
+         * @param start      Index of the first word of the sentence replaced by the arc.
+         * @param end        Index after the last word of the sentence replaced by the arc.
+         * @param words      Words of the arc.
+         * @param roots      Roots of the words of the arc.
+         * @param misspelled For each word, true if the word is a misspelled word kept as it is.
+         */
+        private LatticeArc(int start, int end, Word[] words, Word[] roots, boolean[] misspelled) {
+            this.start = start;
+            this.end = end;
+            this.words = words;
+            this.roots = roots;
+            this.misspelled = misspelled;
+        }
+    }
+
+    private static class LatticeHypothesis {
+        private final double score;
+        private final LatticeArc arc;
+        private final LatticeHypothesis previous;
+
+        /**
+         * A constructor of {@link LatticeHypothesis} class, which extends the given hypothesis with the given arc.
+         *
+         * @param score    Log probability of the path ending with the arc.
+         * @param arc      Last arc of the path, null for the empty path.
+         * @param previous Hypothesis of the path before the arc, null for the empty path.
+         */
+        private LatticeHypothesis(double score, LatticeArc arc, LatticeHypothesis previous) {
+            this.score = score;
+            this.arc = arc;
+            this.previous = previous;
+        }
+
+        /**
+         * Returns the key of the state of the hypothesis, which is the last root of the path, since the score of the
+         * next arc depends only on it.
+         *
+         * @return Key of the state of the hypothesis.
+         */
+        private String state() {
+            if (arc == null) {
+                return "";
+            }
+            int last = arc.roots.length - 1;
+            return (arc.misspelled[last] ? "1" : "0") + arc.roots[last].getName();
+        }
+    }
 
     /**
      * A constructor of {@link NGramSpellChecker} class which takes an {@link FsmMorphologicalAnalyzer} and an {@link NGram}
      * as inputs. Then, calls its super class {@link SimpleSpellChecker} with given {@link FsmMorphologicalAnalyzer} and
-     * assigns given {@link NGram} to the nGram variable.
+     * wraps given {@link NGram} in an {@link NGramBigramModel}.
      *
      * @param fsm   {@link FsmMorphologicalAnalyzer} type input.
      * @param nGram {@link NGram} type input.
      */
     public NGramSpellChecker(FsmMorphologicalAnalyzer fsm, NGram<String> nGram) {
         super(fsm);
-        this.nGram = nGram;
+        this.bigramModel = new NGramBigramModel(nGram);
+        this.bigramCache = null;
     }
 
     /**
      * Another constructor of {@link NGramSpellChecker} class which takes an {@link FsmMorphologicalAnalyzer}, an {@link NGram}
      * and a {@link SpellCheckerParameter} as inputs. Then, calls its super class {@link SimpleSpellChecker} with given {@link FsmMorphologicalAnalyzer}
-     * and {@link SpellCheckerParameter}. Finally, it assigns given {@link NGram} to the nGram variable.
+     * and {@link SpellCheckerParameter}. Finally, it wraps given {@link NGram} in an {@link NGramBigramModel} and creates
+     * the bigram cache if its size in the parameter is positive.
      *
      * @param fsm       {@link FsmMorphologicalAnalyzer} type input.
      * @param nGram     {@link NGram} type input.
      * @param parameter {@link SpellCheckerParameter} type input.
      */
     public NGramSpellChecker(FsmMorphologicalAnalyzer fsm, NGram<String> nGram, SpellCheckerParameter parameter) {
+        this(fsm, new NGramBigramModel(nGram), parameter);
+    }
+
+    /**
+     * Another constructor of {@link NGramSpellChecker} class which takes an {@link FsmMorphologicalAnalyzer}, a
+     * {@link BigramModel} and a {@link SpellCheckerParameter} as inputs. The bigram model can be used in place of an
+     * {@link NGram}, for example a memory mapped {@link QuantizedBigramModel}.
+     *
+     * @param fsm         {@link FsmMorphologicalAnalyzer} type input.
+     * @param bigramModel {@link BigramModel} type input.
+     * @param parameter   {@link SpellCheckerParameter} type input.
+     */
+    public NGramSpellChecker(FsmMorphologicalAnalyzer fsm, BigramModel bigramModel, SpellCheckerParameter parameter) {
         super(fsm, parameter);
-        this.nGram = nGram;
+        this.bigramModel = bigramModel;
+        this.bigramCache = parameter.getBigramCacheSize() > 0 ? new ConcurrentLruCache<>(parameter.getBigramCacheSize()) : null;
     }
 
     /**
@@ -47,27 +129,41 @@ public class NGramSpellChecker extends SimpleSpellChecker {
      */
     private Word checkAnalysisAndSetRootForWordAtIndex(Sentence sentence, int index) {
         if (index < sentence.wordCount()) {
-            String wordName = sentence.getWord(index).getName();
-            if ((wordName.matches(".*\\d+.*") && wordName.matches(".*[a-zA-ZçöğüşıÇÖĞÜŞİ]+.*")
-                    && !wordName.contains("'")) || wordName.length() < parameter.getMinWordLength()) {
-                return sentence.getWord(index);
+            return checkAnalysisAndSetRootForWord(sentence.getWord(index));
+        }
+        return null;
+    }
+
+    /**
+     * Checks the morphological analysis of the given word of a sentence. If there is no misspelling, it returns the
+     * longest root word of the possible analysis. Words containing both digits and letters, and short words, are
+     * returned as they are.
+     *
+     * @param word Word to be analyzed.
+     * @return If the word is misspelled, null; otherwise the longest root word of the possible analysis.
+     */
+    private Word checkAnalysisAndSetRootForWord(Word word) {
+        String wordName = word.getName();
+        int tokenClass = TokenClassifier.classify(wordName);
+        if (((tokenClass & (TokenClassifier.HAS_DIGIT | TokenClassifier.HAS_LETTER | TokenClassifier.APOSTROPHE)) == (TokenClassifier.HAS_DIGIT | TokenClassifier.HAS_LETTER))
+                || wordName.length() < parameter.getMinWordLength()) {
+            return word;
+        }
+        FsmParseList fsmParses = analysisCache.morphologicalAnalysis(wordName);
+        if (fsmParses.size() != 0) {
+            if (parameter.isRootNGram()) {
+                return fsmParses.getParseWithLongestRootWord().getWord();
+            } else {
+                return word;
             }
-            FsmParseList fsmParses = fsm.morphologicalAnalysis(wordName);
-            if (fsmParses.size() != 0) {
+        } else {
+            String upperCaseWordName = Word.toCapital(wordName);
+            FsmParseList upperCaseFsmParses = analysisCache.morphologicalAnalysis(upperCaseWordName);
+            if (upperCaseFsmParses.size() != 0) {
                 if (parameter.isRootNGram()) {
-                    return fsmParses.getParseWithLongestRootWord().getWord();
+                    return upperCaseFsmParses.getParseWithLongestRootWord().getWord();
                 } else {
-                    return sentence.getWord(index);
-                }
-            } else {
-                String upperCaseWordName = Word.toCapital(wordName);
-                FsmParseList upperCaseFsmParses = fsm.morphologicalAnalysis(upperCaseWordName);
-                if (upperCaseFsmParses.size() != 0) {
-                    if (parameter.isRootNGram()) {
-                        return upperCaseFsmParses.getParseWithLongestRootWord().getWord();
-                    } else {
-                        return sentence.getWord(index);
-                    }
+                    return word;
                 }
             }
         }
@@ -82,14 +178,14 @@ public class NGramSpellChecker extends SimpleSpellChecker {
      * @return If the word is misspelled, null; otherwise the longest root word of the possible analysis.
      */
     private Word checkAnalysisAndSetRoot(String word) {
-        FsmParseList fsmParsesOfWord = fsm.morphologicalAnalysis(word);
+        FsmParseList fsmParsesOfWord = analysisCache.morphologicalAnalysis(word);
         if (fsmParsesOfWord.size() != 0) {
             if (parameter.isRootNGram()) {
                 return fsmParsesOfWord.getParseWithLongestRootWord().getWord();
             }
             return new Word(word);
         }
-        FsmParseList fsmParsesOfCapitalizedWord = fsm.morphologicalAnalysis(Word.toCapital(word));
+        FsmParseList fsmParsesOfCapitalizedWord = analysisCache.morphologicalAnalysis(Word.toCapital(word));
         if (fsmParsesOfCapitalizedWord.size() != 0) {
             if (parameter.isRootNGram()) {
                 return fsmParsesOfCapitalizedWord.getParseWithLongestRootWord().getWord();
@@ -99,6 +195,50 @@ public class NGramSpellChecker extends SimpleSpellChecker {
         return null;
     }
 
+    /**
+     * Returns the root of the given word as checkAnalysisAndSetRoot does, remembering the roots found in the current
+     * sentence, since the same neighbouring words are analyzed for every candidate.
+     *
+     * @param word  Word to be analyzed.
+     * @param roots Roots of the words analyzed so far in the current sentence.
+     * @return If the word is misspelled, null; otherwise the longest root word of the possible analysis.
+     */
+    private Word checkAnalysisAndSetRoot(String word, HashMap<String, Word> roots) {
+        if (roots.containsKey(word)) {
+            return roots.get(word);
+        }
+        Word root = checkAnalysisAndSetRoot(word);
+        roots.put(word, root);
+        return root;
+    }
+
+    /**
+     * Returns the bi-gram probability P(word2 | word1), remembering the probabilities found in the current sentence.
+     * If the bigram cache is enabled, the probabilities are also shared across sentences.
+     *
+     * @param word1         First word in bi-gram
+     * @param word2         Second word in bi-gram
+     * @param probabilities Probabilities of the bigrams seen so far in the current sentence.
+     * @return Bi-gram probability P(word2 | word1)
+     */
+    private double getProbability(String word1, String word2, HashMap<String, Double> probabilities) {
+        String key = word1 + "\n" + word2;
+        Double probability = probabilities.get(key);
+        if (probability == null) {
+            if (bigramCache != null) {
+                probability = bigramCache.get(key);
+            }
+            if (probability == null) {
+                probability = getProbability(word1, word2);
+                if (bigramCache != null) {
+                    bigramCache.put(key, probability);
+                }
+            }
+            probabilities.put(key, probability);
+        }
+        return probability;
+    }
+
     /**
      * Returns the bi-gram probability P(word2 | word1) for the given bigram consisting of two words.
      * @param word1 First word in bi-gram
@@ -106,7 +246,7 @@ public class NGramSpellChecker extends SimpleSpellChecker {
      * @return Bi-gram probability P(word2 | word1)
      */
     private double getProbability(String word1, String word2) {
-        return nGram.getProbability(word1, word2);
+        return bigramModel.getProbability(word1, word2);
     }
 
     /**
@@ -121,17 +261,37 @@ public class NGramSpellChecker extends SimpleSpellChecker {
      * <p>
      * If the size of {@link FsmParseList} is not equal to 0, it directly adds the current word to the result {@link Sentence} and finds
      * the previousRoot directly from the {@link FsmParseList}.
+     * <p>
+     * The roots of the candidates and of their neighbouring words, and the bigram probabilities, are memoized for the
+     * sentence, so each is computed once no matter how many candidates share it.
+     * <p>
+     * If the tiered candidates are enabled in the parameter, the candidates of a misspelled word are generated and
+     * scored in the tiers of the candidateTier method, and the later tiers are skipped as soon as a candidate exceeds
+     * the threshold by the tiered candidate margin.
+     * <p>
+     * If the diacritic restoration is enabled in the parameter, a misspelled ASCII word with a unique diacritic
+     * restoration is replaced by its restoration, and no other candidate is generated or scored.
+     * <p>
+     * If the lattice decoder is enabled in the parameter, the sentence is corrected by latticeSpellCheck instead.
      *
      * @param sentence {@link Sentence} type input.
      * @return Sentence result.
      */
     public Sentence spellCheck(Sentence sentence) {
+        if (parameter.isLatticeDecoder()) {
+            Sentence result = latticeSpellCheck(sentence);
+            if (result != null) {
+                return result;
+            }
+        }
         Word word, bestRoot;
         Word previousRoot = null, root, nextRoot;
         Candidate bestCandidate;
         double previousProbability, nextProbability, bestProbability;
         ArrayList<Candidate> candidates;
         Sentence result = new Sentence();
+        HashMap<String, Word> roots = new HashMap<>();
+        HashMap<String, Double> probabilities = new HashMap<>();
         root = checkAnalysisAndSetRootForWordAtIndex(sentence, 0);
         nextRoot = checkAnalysisAndSetRootForWordAtIndex(sentence, 1);
         for (int i = 0; i < sentence.wordCount(); i++) {
@@ -185,55 +345,76 @@ public class NGramSpellChecker extends SimpleSpellChecker {
                     continue;
                 }
             }
-            if (root == null || (word.getName().length() < parameter.getMinWordLength() && fsm.morphologicalAnalysis(word.getName()).size() == 0)) {
+            if (root == null || (word.getName().length() < parameter.getMinWordLength() && analysisCache.morphologicalAnalysis(word.getName()).size() == 0)) {
+                boolean misspelled = root == null;
+                int tierCount = misspelled && parameter.isTieredCandidates() ? 3 : 1;
                 candidates = new ArrayList<>();
-                if (root == null) {
-                    candidates.addAll(candidateList(word, sentence));
-                    candidates.addAll(splitCandidatesList(word));
-                }
-                candidates.addAll(mergedCandidatesList(previousWord, word, nextWord));
+                HashSet<String> candidateNames = new HashSet<>();
                 bestCandidate = new Candidate(word.getName(), Operator.NO_CHANGE);
                 bestRoot = word;
                 bestProbability = parameter.getThreshold();
-                for (Candidate candidate : candidates) {
-                    if (candidate.getOperator() == Operator.SPELL_CHECK || candidate.getOperator() == Operator.MISSPELLED_REPLACE
-                            || candidate.getOperator() == Operator.CONTEXT_BASED || candidate.getOperator() == Operator.TRIE_BASED) {
-                        root = checkAnalysisAndSetRoot(candidate.getName());
-                    }
-                    if (candidate.getOperator() == Operator.BACKWARD_MERGE && previousWord != null) {
-                        root = checkAnalysisAndSetRoot(previousWord.getName() + word.getName());
-                        if (previousPreviousWord != null) {
-                            previousRoot = checkAnalysisAndSetRoot(previousPreviousWord.getName());
+                Candidate restoration = misspelled ? uniqueDiacriticRestoration(word) : null;
+                if (restoration != null) {
+                    bestCandidate = restoration;
+                    bestRoot = checkAnalysisAndSetRoot(restoration.getName(), roots);
+                    tierCount = 0;
+                }
+                for (int tier = 0; tier < tierCount; tier++) {
+                    int firstCandidate = candidates.size();
+                    for (Candidate candidate : candidateTier(tier, tierCount, misspelled, previousWord, word, nextWord, sentence)) {
+                        if (tierCount == 1 || candidateNames.add(candidate.getName())) {
+                            candidates.add(candidate);
                         }
                     }
-                    if (candidate.getOperator() == Operator.FORWARD_MERGE && nextWord != null) {
-                        root = checkAnalysisAndSetRoot(word.getName() + nextWord.getName());
-                        if (nextNextWord != null) {
-                            nextRoot = checkAnalysisAndSetRoot(nextNextWord.getName());
+                    for (int j = firstCandidate; j < candidates.size(); j++) {
+                        Candidate candidate = candidates.get(j);
+                        String[] splitNames = candidate.getOperator() == Operator.SPLIT ? candidate.getName().split(" ") : null;
+                        if (candidate.getOperator() == Operator.SPELL_CHECK || candidate.getOperator() == Operator.MISSPELLED_REPLACE
+                                || candidate.getOperator() == Operator.CONTEXT_BASED || candidate.getOperator() == Operator.TRIE_BASED) {
+                            root = checkAnalysisAndSetRoot(candidate.getName(), roots);
                         }
-                    }
-                    if (previousRoot != null) {
-                        if (candidate.getOperator() == Operator.SPLIT) {
-                            root = checkAnalysisAndSetRoot(candidate.getName().split(" ")[0]);
+                        if (candidate.getOperator() == Operator.BACKWARD_MERGE && previousWord != null) {
+                            root = checkAnalysisAndSetRoot(previousWord.getName() + word.getName(), roots);
+                            if (previousPreviousWord != null) {
+                                previousRoot = checkAnalysisAndSetRoot(previousPreviousWord.getName(), roots);
+                            }
                         }
-                        previousProbability = getProbability(previousRoot.getName(), root.getName());
-                    } else {
-                        previousProbability = 0.0;
-                    }
-                    if (nextRoot != null) {
-                        if (candidate.getOperator() == Operator.SPLIT) {
-                            root = checkAnalysisAndSetRoot(candidate.getName().split(" ")[1]);
+                        if (candidate.getOperator() == Operator.FORWARD_MERGE && nextWord != null) {
+                            root = checkAnalysisAndSetRoot(word.getName() + nextWord.getName(), roots);
+                            if (nextNextWord != null) {
+                                nextRoot = checkAnalysisAndSetRoot(nextNextWord.getName(), roots);
+                            }
+                        }
+                        if (previousRoot != null) {
+                            if (candidate.getOperator() == Operator.SPLIT) {
+                                root = checkAnalysisAndSetRoot(splitNames[0], roots);
+                            }
+                            previousProbability = getProbability(previousRoot.getName(), root.getName(), probabilities);
+                        } else {
+                            previousProbability = 0.0;
+                        }
+                        if (nextRoot != null) {
+                            if (candidate.getOperator() == Operator.SPLIT) {
+                                root = checkAnalysisAndSetRoot(splitNames[1], roots);
+                            }
+                            nextProbability = getProbability(root.getName(), nextRoot.getName(), probabilities);
+                        } else {
+                            nextProbability = 0.0;
+                        }
+                        if (Math.max(previousProbability, nextProbability) > bestProbability) {
+                            bestCandidate = candidate;
+                            bestRoot = root;
+                            bestProbability = Math.max(previousProbability, nextProbability);
                         }
-                        nextProbability = getProbability(root.getName(), nextRoot.getName());
-                    } else {
-                        nextProbability = 0.0;
                     }
-                    if (Math.max(previousProbability, nextProbability) > bestProbability || candidates.size() == 1) {
-                        bestCandidate = candidate;
-                        bestRoot = root;
-                        bestProbability = Math.max(previousProbability, nextProbability);
+                    if (bestProbability > parameter.getThreshold() + parameter.getTieredCandidateMargin()) {
+                        break;
                     }
                 }
+                if (candidates.size() == 1 && bestCandidate != candidates.get(0)) {
+                    bestCandidate = candidates.get(0);
+                    bestRoot = root;
+                }
                 if (bestCandidate.getOperator() == Operator.FORWARD_MERGE) {
                     i++;
                 }
@@ -256,4 +437,338 @@ public class NGramSpellChecker extends SimpleSpellChecker {
         }
         return result;
     }
+
+    /**
+     * Returns the candidates of the given tier. If the candidates are not generated in tiers, the single tier contains
+     * the candidates of the candidateList and splitCandidatesList methods for a misspelled word, and the merge
+     * candidates. Otherwise, the first tier contains the diacritic restorations of the word, the second tier the one
+     * character edits of the editCandidateList method, even if the symmetric delete index is enabled, and the last
+     * tier the candidates of the candidateList method of the spell checker, which may be farther from the word, the
+     * split candidates and the merge candidates. If the candidateList method returns the one character edits as well,
+     * it is not called again in the last tier. Forced corrections from the misspellings list are applied before any
+     * tier.
+     *
+     * @param tier         Index of the tier.
+     * @param tierCount    Number of tiers, 1 if the candidates are not generated in tiers.
+     * @param misspelled   True if the word can not be analyzed.
+     * @param previousWord Previous word in the sentence.
+     * @param word         Word currently being checked.
+     * @param nextWord     Next word in the sentence.
+     * @param sentence     Sentence containing the word.
+     * @return Candidates of the tier.
+     */
+    private ArrayList<Candidate> candidateTier(int tier, int tierCount, boolean misspelled, Word previousWord, Word word, Word nextWord, Sentence sentence) {
+        ArrayList<Candidate> candidates = new ArrayList<>();
+        if (tier == tierCount - 1) {
+            if (misspelled) {
+                if (tierCount == 1 || !hasOnlyEditCandidates()) {
+                    candidates.addAll(candidateList(word, sentence));
+                }
+                candidates.addAll(splitCandidatesList(word));
+            }
+            candidates.addAll(mergedCandidatesList(previousWord, word, nextWord));
+        } else {
+            if (tier == 0) {
+                candidates.addAll(diacriticCandidatesList(word));
+            } else {
+                candidates.addAll(editCandidateList(word));
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the root of the given word of the sentence or of a forced correction, remembering the roots found in the
+     * current sentence.
+     *
+     * @param word  Word to be analyzed.
+     * @param roots Roots of the words analyzed so far in the current sentence.
+     * @return If the word is misspelled, null; otherwise the longest root word of the possible analysis.
+     */
+    private Word checkAnalysisAndSetRootForWord(Word word, HashMap<String, Word> roots) {
+        if (roots.containsKey(word.getName())) {
+            return roots.get(word.getName());
+        }
+        Word root = checkAnalysisAndSetRootForWord(word);
+        roots.put(word.getName(), root);
+        return root;
+    }
+
+    /**
+     * Adds an arc replacing the words of the sentence from start to end with the given words. The roots of the words
+     * are computed once, when the arc is created. A candidate without a root
+     * is skipped, and a word of the sentence without a root is kept as a misspelled word, which is its own root.
+     *
+     * @param arcs          Arcs of the lattice, grouped by their start.
+     * @param start         Index of the first word of the sentence replaced by the arc.
+     * @param end           Index after the last word of the sentence replaced by the arc.
+     * @param words         Words of the arc.
+     * @param candidate     True if the words are generated candidates, false if they are the words of the sentence or
+     *                      forced corrections.
+     * @param roots         Roots of the candidates, or of the words of the sentence, analyzed so far.
+     */
+    private void addArc(ArrayList<ArrayList<LatticeArc>> arcs, int start, int end, Word[] words, boolean candidate,
+                        HashMap<String, Word> roots) {
+        Word[] arcRoots = new Word[words.length];
+        boolean[] misspelled = new boolean[words.length];
+        for (int i = 0; i < words.length; i++) {
+            if (candidate) {
+                arcRoots[i] = checkAnalysisAndSetRoot(words[i].getName(), roots);
+            } else {
+                arcRoots[i] = checkAnalysisAndSetRootForWord(words[i], roots);
+            }
+            if (arcRoots[i] == null) {
+                if (candidate) {
+                    return;
+                }
+                arcRoots[i] = words[i];
+                misspelled[i] = true;
+            }
+        }
+        arcs.get(start).add(new LatticeArc(start, end, words, arcRoots, misspelled));
+    }
+
+    /**
+     * Returns the sum of the log bigram probabilities of the consecutive roots inside the given arc, computing it when
+     * the arc is first extended.
+     *
+     * @param arc           Arc of the lattice.
+     * @param probabilities Probabilities of the bigrams seen so far in the current sentence.
+     * @return Log probability of the words of the arc after its first word.
+     */
+    private double arcScore(LatticeArc arc, HashMap<String, Double> probabilities) {
+        if (arc.score == null) {
+            double score = 0.0;
+            for (int i = 1; i < arc.roots.length; i++) {
+                score += transitionScore(arc.roots[i - 1], arc.misspelled[i - 1], arc.roots[i], arc.misspelled[i], probabilities);
+            }
+            arc.score = score;
+        }
+        return arc.score;
+    }
+
+    /**
+     * Returns the log probability of a transition between two roots. The probability of a transition from or to a
+     * misspelled word kept as it is, is at least the threshold, so a candidate replaces the misspelled word only if it
+     * is more probable than the threshold, as in the greedy correction.
+     *
+     * @param first            Root of the first word.
+     * @param firstMisspelled  True if the first word is a misspelled word kept as it is.
+     * @param second           Root of the second word.
+     * @param secondMisspelled True if the second word is a misspelled word kept as it is.
+     * @param probabilities    Probabilities of the bigrams seen so far in the current sentence.
+     * @return Log probability of the transition.
+     */
+    private double transitionScore(Word first, boolean firstMisspelled, Word second, boolean secondMisspelled, HashMap<String, Double> probabilities) {
+        double probability = getProbability(first.getName(), second.getName(), probabilities);
+        if (firstMisspelled || secondMisspelled) {
+            probability = Math.max(probability, parameter.getThreshold());
+        }
+        return Math.log(Math.max(probability, MINIMUM_PROBABILITY));
+    }
+
+    /**
+     * Builds the lattice of the corrections of the given sentence. The arcs starting at each position are the output
+     * of the first forced rule that applies to the word, or if no forced rule applies, the word itself and, for a
+     * misspelled or short unknown word, its edit, split and merge candidates. A word corrected by a forced rule has no
+     * other arc, and if a word has a single candidate, the word itself is left out, as in the greedy correction. A
+     * misspelled word with a unique diacritic restoration has only the arc of its restoration.
+     *
+     * @param sentence Sentence to be corrected.
+     * @param roots    Roots of the candidates analyzed so far in the current sentence.
+     * @return Arcs of the lattice, grouped by their start.
+     */
+    private ArrayList<ArrayList<LatticeArc>> buildLattice(Sentence sentence, HashMap<String, Word> roots) {
+        int wordCount = sentence.wordCount();
+        HashMap<String, Word> sentenceRoots = new HashMap<>();
+        ArrayList<ArrayList<LatticeArc>> arcs = new ArrayList<>();
+        for (int i = 0; i <= wordCount; i++) {
+            arcs.add(new ArrayList<>());
+        }
+        for (int i = 0; i < wordCount; i++) {
+            Word word = sentence.getWord(i);
+            Word previousWord = i > 0 ? sentence.getWord(i - 1) : null;
+            Word nextWord = i < wordCount - 1 ? sentence.getWord(i + 1) : null;
+            Sentence forced = new Sentence();
+            if (forcedMisspellCheck(word, forced)) {
+                addArc(arcs, i, i + 1, words(forced), false, sentenceRoots);
+                continue;
+            }
+            if (previousWord != null) {
+                forced.addWord(previousWord);
+                if (forcedBackwardMergeCheck(word, forced, previousWord) || forcedSuffixMergeCheck(word, forced, previousWord)) {
+                    addArc(arcs, i - 1, i + 1, words(forced), false, sentenceRoots);
+                    continue;
+                }
+            }
+            forced = new Sentence();
+            if (forcedForwardMergeCheck(word, forced, nextWord)) {
+                addArc(arcs, i, i + 2, words(forced), false, sentenceRoots);
+                continue;
+            }
+            if (previousWord != null) {
+                forced.addWord(previousWord);
+                if (forcedHyphenMergeCheck(word, forced, previousWord, nextWord)) {
+                    addArc(arcs, i - 1, i + 2, words(forced), false, sentenceRoots);
+                    continue;
+                }
+            }
+            forced = new Sentence();
+            if (forcedSplitCheck(word, forced) || forcedShortcutSplitCheck(word, forced)
+                    || (parameter.suffixCheck() && (forcedDeDaSplitCheck(word, forced) || forcedSuffixSplitCheck(word, forced) || forcedQuestionSuffixSplitCheck(word, forced)))) {
+                addArc(arcs, i, i + 1, words(forced), false, sentenceRoots);
+                continue;
+            }
+            Word root = checkAnalysisAndSetRootForWord(word, sentenceRoots);
+            ArrayList<Candidate> candidates = new ArrayList<>();
+            if (root == null || (word.getName().length() < parameter.getMinWordLength() && analysisCache.morphologicalAnalysis(word.getName()).size() == 0)) {
+                Candidate restoration = root == null ? uniqueDiacriticRestoration(word) : null;
+                if (restoration != null) {
+                    candidates.add(restoration);
+                } else {
+                    if (root == null) {
+                        candidates.addAll(candidateList(word, sentence));
+                        candidates.addAll(splitCandidatesList(word));
+                    }
+                    candidates.addAll(mergedCandidatesList(previousWord, word, nextWord));
+                }
+            }
+            if (candidates.size() != 1) {
+                addArc(arcs, i, i + 1, new Word[]{word}, false, sentenceRoots);
+            }
+            for (Candidate candidate : candidates) {
+                if (candidate.getOperator() == Operator.BACKWARD_MERGE) {
+                    addArc(arcs, i - 1, i + 1, new Word[]{new Word(candidate.getName())}, true, roots);
+                } else {
+                    if (candidate.getOperator() == Operator.FORWARD_MERGE) {
+                        addArc(arcs, i, i + 2, new Word[]{new Word(candidate.getName())}, true, roots);
+                    } else {
+                        String[] names = candidate.getName().split(" ");
+                        Word[] candidateWords = new Word[names.length];
+                        for (int j = 0; j < names.length; j++) {
+                            candidateWords[j] = new Word(names[j]);
+                        }
+                        addArc(arcs, i, i + 1, candidateWords, true, roots);
+                    }
+                }
+            }
+        }
+        return arcs;
+    }
+
+    /**
+     * Returns the words of the given sentence as an array.
+     *
+     * @param sentence Sentence whose words will be returned.
+     * @return Words of the sentence.
+     */
+    private Word[] words(Sentence sentence) {
+        Word[] words = new Word[sentence.wordCount()];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = sentence.getWord(i);
+        }
+        return words;
+    }
+
+    /**
+     * Corrects the given sentence by decoding a lattice of its corrections. The lattice is built once, so the roots and
+     * the bigram probabilities inside each arc are computed exactly once, and if some position has more than one arc,
+     * the best path is searched for with the
+     * Viterbi algorithm, where the score of a path is the sum of the log bigram probabilities of its consecutive roots.
+     * The hypotheses ending at a position are merged by their last root, and if the beam width of the parameter is
+     * positive, only that many of the best hypotheses are extended at each position. Ties are broken in favour of the
+     * arcs created first, so a word is kept rather than replaced by an equally probable candidate.
+     *
+     * @param sentence Sentence to be corrected.
+     * @return Corrected sentence, null if no path covers the whole sentence.
+     */
+    private Sentence latticeSpellCheck(Sentence sentence) {
+        HashMap<String, Word> roots = new HashMap<>();
+        HashMap<String, Double> probabilities = new HashMap<>();
+        ArrayList<ArrayList<LatticeArc>> arcs = buildLattice(sentence, roots);
+        int wordCount = sentence.wordCount();
+        if (uniquePath(arcs)) {
+            ArrayList<LatticeArc> path = new ArrayList<>();
+            for (int i = 0; i < wordCount; i = path.get(path.size() - 1).end) {
+                if (arcs.get(i).isEmpty()) {
+                    return null;
+                }
+                path.add(arcs.get(i).get(0));
+            }
+            return pathSentence(path);
+        }
+        ArrayList<LinkedHashMap<String, LatticeHypothesis>> hypotheses = new ArrayList<>();
+        for (int i = 0; i <= wordCount; i++) {
+            hypotheses.add(new LinkedHashMap<>());
+        }
+        hypotheses.get(0).put("", new LatticeHypothesis(0.0, null, null));
+        for (int i = 0; i < wordCount; i++) {
+            ArrayList<LatticeHypothesis> beam = new ArrayList<>(hypotheses.get(i).values());
+            if (parameter.getLatticeBeamWidth() > 0 && beam.size() > parameter.getLatticeBeamWidth()) {
+                beam.sort((first, second) -> Double.compare(second.score, first.score));
+                beam = new ArrayList<>(beam.subList(0, parameter.getLatticeBeamWidth()));
+            }
+            for (LatticeHypothesis hypothesis : beam) {
+                for (LatticeArc arc : arcs.get(i)) {
+                    double score = hypothesis.score + arcScore(arc, probabilities);
+                    if (hypothesis.arc != null) {
+                        int last = hypothesis.arc.roots.length - 1;
+                        score += transitionScore(hypothesis.arc.roots[last], hypothesis.arc.misspelled[last], arc.roots[0], arc.misspelled[0], probabilities);
+                    }
+                    LatticeHypothesis extended = new LatticeHypothesis(score, arc, hypothesis);
+                    LatticeHypothesis best = hypotheses.get(arc.end).get(extended.state());
+                    if (best == null || score > best.score) {
+                        hypotheses.get(arc.end).put(extended.state(), extended);
+                    }
+                }
+            }
+        }
+        LatticeHypothesis best = null;
+        for (LatticeHypothesis hypothesis : hypotheses.get(wordCount).values()) {
+            if (best == null || hypothesis.score > best.score) {
+                best = hypothesis;
+            }
+        }
+        if (best == null) {
+            return null;
+        }
+        ArrayList<LatticeArc> path = new ArrayList<>();
+        for (LatticeHypothesis hypothesis = best; hypothesis.arc != null; hypothesis = hypothesis.previous) {
+            path.add(hypothesis.arc);
+        }
+        Collections.reverse(path);
+        return pathSentence(path);
+    }
+
+    /**
+     * Returns true if no position of the lattice has more than one arc, in which case there is at most one path and
+     * no probability needs to be computed.
+     *
+     * @param arcs Arcs of the lattice, grouped by their start.
+     * @return True if every position has at most one arc, false otherwise.
+     */
+    private boolean uniquePath(ArrayList<ArrayList<LatticeArc>> arcs) {
+        for (ArrayList<LatticeArc> arcsOfPosition : arcs) {
+            if (arcsOfPosition.size() > 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the sentence formed by the words of the arcs of the given path.
+     *
+     * @param path Arcs of a path from the start to the end of the lattice.
+     * @return Sentence of the words of the path.
+     */
+    private Sentence pathSentence(ArrayList<LatticeArc> path) {
+        Sentence result = new Sentence();
+        for (LatticeArc arc : path) {
+            for (Word word : arc.words) {
+                result.addWord(word);
+            }
+        }
+        return result;
+    }
 }
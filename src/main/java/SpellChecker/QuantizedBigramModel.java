@@ -0,0 +1,530 @@
+package SpellChecker;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+public class QuantizedBigramModel implements BigramModel {
+    private static final int MAGIC = 0x42494752;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 28;
+    private static final long EMPTY = -1L;
+    private final ByteBuffer buffer;
+    private final int bits;
+    private final int wordCount;
+    private final int bucketCount;
+    private final int tableSize;
+    private final int bigramCount;
+    private final double[] codebook;
+    private final int displacementOffset;
+    private final int fingerprintOffset;
+    private final int unseenOffset;
+    private final int keyOffset;
+    private final int codeOffset;
+
+    /**
+     * A constructor of {@link QuantizedBigramModel} class which reads the bigram model stored in the given buffer. The
+     * words of the vocabulary are mapped to identifiers by a minimal perfect hash function, and since the words
+     * themselves are not stored, a 32 bit fingerprint of each word is kept to reject the words outside the vocabulary.
+     * The bigrams are stored in an open addressed hash table whose keys combine the identifiers of the two words in a
+     * long, and the probabilities are quantized to 8 or 16 bit codes on a logarithmic scale. The buffer starts with a
+     * header of seven integers: a magic number, the version, the number of bits of a code, the number of words, the
+     * number of buckets of the perfect hash function, the size of the hash table and the number of bigrams. Then the
+     * probabilities of the codes, the displacements of the buckets, the fingerprints of the words, the codes of the
+     * unseen bigrams of each word, the keys of the hash table and the codes of the hash table follow.
+     *
+     * @param buffer Buffer containing the bigram model.
+     * @throws IOException If the buffer does not contain a bigram model.
+     */
+    private QuantizedBigramModel(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Not a quantized bigram model");
+        }
+        bits = buffer.getInt(8);
+        wordCount = buffer.getInt(12);
+        bucketCount = buffer.getInt(16);
+        tableSize = buffer.getInt(20);
+        bigramCount = buffer.getInt(24);
+        codebook = new double[1 << bits];
+        for (int i = 0; i < codebook.length; i++) {
+            codebook[i] = buffer.getDouble(HEADER_SIZE + 8 * i);
+        }
+        displacementOffset = HEADER_SIZE + 8 * codebook.length;
+        fingerprintOffset = displacementOffset + 4 * bucketCount;
+        unseenOffset = fingerprintOffset + 4 * wordCount;
+        keyOffset = unseenOffset + bits / 8 * wordCount;
+        codeOffset = keyOffset + 8 * tableSize;
+    }
+
+    /**
+     * Builds the bigram model from the given reader. A line with three fields, word1 word2 probability, gives the
+     * probability P(word2 | word1) of a bigram. A line with two fields, word1 probability, gives the probability of the
+     * bigrams starting with word1 which are not listed, such as the smoothed probability of an unseen bigram. The
+     * probability of a bigram whose first word is not listed at all is 0. Other lines are skipped, and if a bigram
+     * occurs more than once, its last probability is used.
+     *
+     * @param reader Reader of the bigram probabilities.
+     * @param bits   Number of bits of a quantized probability, 8 or 16.
+     * @return {@link QuantizedBigramModel} of the bigrams read.
+     * @throws IOException If the bigram probabilities can not be read.
+     */
+    public static QuantizedBigramModel build(BufferedReader reader, int bits) throws IOException {
+        if (bits != 8 && bits != 16) {
+            throw new IllegalArgumentException("Probabilities can only be quantized to 8 or 16 bits");
+        }
+        HashMap<String, Integer> ids = new HashMap<>();
+        ArrayList<String> words = new ArrayList<>();
+        HashMap<Integer, Double> unseen = new HashMap<>();
+        long[] bigrams = new long[64];
+        double[] probabilities = new double[64];
+        int count = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String[] items = line.trim().split("\\s+");
+            if (items.length == 3) {
+                if (count == bigrams.length) {
+                    bigrams = Arrays.copyOf(bigrams, 2 * count);
+                    probabilities = Arrays.copyOf(probabilities, 2 * count);
+                }
+                bigrams[count] = ((long) intern(items[0], ids, words) << 32) | intern(items[1], ids, words);
+                probabilities[count] = Double.parseDouble(items[2]);
+                count++;
+            } else {
+                if (items.length == 2) {
+                    unseen.put(intern(items[0], ids, words), Double.parseDouble(items[1]));
+                }
+            }
+        }
+        int levels = 1 << bits;
+        double minimum = Double.POSITIVE_INFINITY, maximum = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            if (probabilities[i] > 0) {
+                minimum = Math.min(minimum, Math.log(probabilities[i]));
+                maximum = Math.max(maximum, Math.log(probabilities[i]));
+            }
+        }
+        for (double probability : unseen.values()) {
+            if (probability > 0) {
+                minimum = Math.min(minimum, Math.log(probability));
+                maximum = Math.max(maximum, Math.log(probability));
+            }
+        }
+        double scale = maximum > minimum ? (levels - 2) / (maximum - minimum) : 0;
+        double[] sums = new double[levels];
+        int[] counts = new int[levels];
+        for (int i = 0; i < count; i++) {
+            addToCode(probabilities[i], minimum, scale, levels, sums, counts);
+        }
+        for (double probability : unseen.values()) {
+            addToCode(probability, minimum, scale, levels, sums, counts);
+        }
+        double[] codebook = new double[levels];
+        for (int i = 1; i < levels; i++) {
+            if (counts[i] > 0) {
+                codebook[i] = Math.exp(sums[i] / counts[i]);
+            } else {
+                codebook[i] = scale > 0 ? Math.exp(minimum + (i - 0.5) / scale) : 0;
+            }
+        }
+        int wordCount = words.size();
+        long[] hashes = new long[wordCount];
+        for (int i = 0; i < wordCount; i++) {
+            hashes[i] = hash(words.get(i));
+        }
+        int bucketCount = Math.max(1, (wordCount + 3) / 4);
+        int[] displacements = new int[bucketCount];
+        int[] newIds = perfectHash(hashes, bucketCount, displacements);
+        int tableSize = 2 * Integer.highestOneBit(Math.max(2, count + count / 3));
+        long[] keys = new long[tableSize];
+        int[] codes = new int[tableSize];
+        Arrays.fill(keys, EMPTY);
+        int bigramCount = 0;
+        for (int i = 0; i < count; i++) {
+            long key = ((long) newIds[(int) (bigrams[i] >>> 32)] << 32) | newIds[(int) bigrams[i]];
+            int position = (int) mix(key) & (tableSize - 1);
+            while (keys[position] != EMPTY && keys[position] != key) {
+                position = (position + 1) & (tableSize - 1);
+            }
+            if (keys[position] == EMPTY) {
+                keys[position] = key;
+                bigramCount++;
+            }
+            codes[position] = code(probabilities[i], minimum, scale, levels);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(imageSize(bits, wordCount, bucketCount, tableSize));
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(8, bits);
+        buffer.putInt(12, wordCount);
+        buffer.putInt(16, bucketCount);
+        buffer.putInt(20, tableSize);
+        buffer.putInt(24, bigramCount);
+        for (int i = 0; i < levels; i++) {
+            buffer.putDouble(HEADER_SIZE + 8 * i, codebook[i]);
+        }
+        int displacementOffset = HEADER_SIZE + 8 * levels;
+        int fingerprintOffset = displacementOffset + 4 * bucketCount;
+        int unseenOffset = fingerprintOffset + 4 * wordCount;
+        int keyOffset = unseenOffset + bits / 8 * wordCount;
+        int codeOffset = keyOffset + 8 * tableSize;
+        for (int i = 0; i < bucketCount; i++) {
+            buffer.putInt(displacementOffset + 4 * i, displacements[i]);
+        }
+        for (int i = 0; i < wordCount; i++) {
+            buffer.putInt(fingerprintOffset + 4 * newIds[i], fingerprint(hashes[i]));
+            Double probability = unseen.get(i);
+            putCode(buffer, unseenOffset, bits, newIds[i], probability != null ? code(probability, minimum, scale, levels) : 0);
+        }
+        for (int i = 0; i < tableSize; i++) {
+            buffer.putLong(keyOffset + 8 * i, keys[i]);
+            putCode(buffer, codeOffset, bits, i, codes[i]);
+        }
+        return new QuantizedBigramModel(buffer);
+    }
+
+    /**
+     * Returns the identifier of the given word while building, assigning a new identifier if the word is new.
+     *
+     * @param word  Word to be interned.
+     * @param ids   Identifiers of the words interned so far.
+     * @param words Words interned so far, in the order of their identifiers.
+     * @return Identifier of the word.
+     */
+    private static int intern(String word, HashMap<String, Integer> ids, ArrayList<String> words) {
+        Integer id = ids.get(word);
+        if (id == null) {
+            id = words.size();
+            ids.put(word, id);
+            words.add(word);
+        }
+        return id;
+    }
+
+    /**
+     * Returns the code of the given probability. Code 0 is reserved for probability 0, and the other codes divide the
+     * range of the logarithms of the positive probabilities into equal intervals.
+     *
+     * @param probability Probability to be quantized.
+     * @param minimum     Logarithm of the smallest positive probability.
+     * @param scale       Number of codes per unit of logarithm.
+     * @param levels      Number of codes.
+     * @return Code of the probability.
+     */
+    private static int code(double probability, double minimum, double scale, int levels) {
+        if (probability <= 0) {
+            return 0;
+        }
+        return Math.min(levels - 1, 1 + (int) ((Math.log(probability) - minimum) * scale));
+    }
+
+    /**
+     * Adds the logarithm of the given probability to the sum of its code, so the probability of a code can be set to
+     * the geometric mean of the probabilities quantized to it.
+     *
+     * @param probability Probability to be quantized.
+     * @param minimum     Logarithm of the smallest positive probability.
+     * @param scale       Number of codes per unit of logarithm.
+     * @param levels      Number of codes.
+     * @param sums        Sums of the logarithms of the probabilities of each code.
+     * @param counts      Number of probabilities of each code.
+     */
+    private static void addToCode(double probability, double minimum, double scale, int levels, double[] sums, int[] counts) {
+        int code = code(probability, minimum, scale, levels);
+        if (code > 0) {
+            sums[code] += Math.log(probability);
+            counts[code]++;
+        }
+    }
+
+    /**
+     * Builds a minimal perfect hash function of the given hashes with the hash and displace method. The hashes are
+     * distributed to buckets, and starting from the largest bucket, the smallest displacement which sends every hash
+     * of the bucket to a free slot is searched for and stored.
+     *
+     * @param hashes        Hashes of the words.
+     * @param bucketCount   Number of buckets.
+     * @param displacements Displacements of the buckets, filled by the method.
+     * @return Slot of each word, which is its identifier in the model.
+     */
+    private static int[] perfectHash(long[] hashes, int bucketCount, int[] displacements) {
+        int wordCount = hashes.length;
+        int[] slots = new int[wordCount];
+        int[] start = new int[bucketCount + 1];
+        for (long hash : hashes) {
+            start[bucket(hash, bucketCount) + 1]++;
+        }
+        for (int i = 0; i < bucketCount; i++) {
+            start[i + 1] += start[i];
+        }
+        int[] members = new int[wordCount];
+        int[] filled = Arrays.copyOf(start, bucketCount);
+        for (int i = 0; i < wordCount; i++) {
+            members[filled[bucket(hashes[i], bucketCount)]++] = i;
+        }
+        Integer[] order = new Integer[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (first, second) -> (start[second + 1] - start[second]) - (start[first + 1] - start[first]));
+        long[] sorted = hashes.clone();
+        Arrays.sort(sorted);
+        for (int i = 1; i < wordCount; i++) {
+            if (sorted[i] == sorted[i - 1]) {
+                throw new IllegalArgumentException("Two words of the vocabulary have the same hash");
+            }
+        }
+        boolean[] taken = new boolean[wordCount];
+        for (int bucket : order) {
+            int displacement = 0;
+            while (!place(hashes, members, start[bucket], start[bucket + 1], displacement, taken, slots)) {
+                displacement++;
+            }
+            displacements[bucket] = displacement;
+        }
+        return slots;
+    }
+
+    /**
+     * Tries to place the members of a bucket with the given displacement. If a slot is already taken, the slots taken
+     * by the bucket are released.
+     *
+     * @param hashes       Hashes of the words.
+     * @param members      Words of all buckets, grouped by bucket.
+     * @param start        Position of the first word of the bucket in members.
+     * @param end          Position after the last word of the bucket in members.
+     * @param displacement Displacement to be tried.
+     * @param taken        Slots taken so far.
+     * @param slots        Slot of each word.
+     * @return True if all words of the bucket are placed, false otherwise.
+     */
+    private static boolean place(long[] hashes, int[] members, int start, int end, int displacement, boolean[] taken, int[] slots) {
+        for (int i = start; i < end; i++) {
+            int slot = slot(hashes[members[i]], displacement, taken.length);
+            if (taken[slot]) {
+                for (int j = start; j < i; j++) {
+                    taken[slots[members[j]]] = false;
+                }
+                return false;
+            }
+            taken[slot] = true;
+            slots[members[i]] = slot;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a 64 bit hash of the given string.
+     *
+     * @param word String to be hashed.
+     * @return Hash of the string.
+     */
+    private static long hash(String word) {
+        long hash = word.length();
+        for (int i = 0; i < word.length(); i++) {
+            hash = (hash + word.charAt(i)) * 0x9e3779b97f4a7c15L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * Mixes the bits of the given value with the finalizer of MurmurHash3.
+     *
+     * @param value Value to be mixed.
+     * @return Mixed value.
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    /**
+     * Returns the bucket of the word with the given hash.
+     *
+     * @param hash        Hash of the word.
+     * @param bucketCount Number of buckets.
+     * @return Bucket of the word.
+     */
+    private static int bucket(long hash, int bucketCount) {
+        return (int) ((hash >>> 1) % bucketCount);
+    }
+
+    /**
+     * Returns the slot of the word with the given hash when its bucket has the given displacement.
+     *
+     * @param hash         Hash of the word.
+     * @param displacement Displacement of the bucket of the word.
+     * @param wordCount    Number of words.
+     * @return Slot of the word.
+     */
+    private static int slot(long hash, int displacement, int wordCount) {
+        return (int) ((mix(hash + displacement * (mix(hash) | 1)) >>> 1) % wordCount);
+    }
+
+    /**
+     * Returns the fingerprint of the word with the given hash, which is independent of its bucket and slot.
+     *
+     * @param hash Hash of the word.
+     * @return Fingerprint of the word.
+     */
+    private static int fingerprint(long hash) {
+        return (int) (mix(hash ^ 0x5bd1e9955bd1e995L) >>> 32);
+    }
+
+    /**
+     * Writes the code at the given index of the code array starting at the given offset.
+     *
+     * @param buffer Buffer of the image.
+     * @param offset Offset of the code array.
+     * @param bits   Number of bits of a code.
+     * @param index  Index of the code.
+     * @param code   Code to be written.
+     */
+    private static void putCode(ByteBuffer buffer, int offset, int bits, int index, int code) {
+        if (bits == 8) {
+            buffer.put(offset + index, (byte) code);
+        } else {
+            buffer.putShort(offset + 2 * index, (short) code);
+        }
+    }
+
+    /**
+     * Reads the code at the given index of the code array starting at the given offset.
+     *
+     * @param offset Offset of the code array.
+     * @param index  Index of the code.
+     * @return Code at the index.
+     */
+    private int getCode(int offset, int index) {
+        if (bits == 8) {
+            return buffer.get(offset + index) & 0xff;
+        } else {
+            return buffer.getShort(offset + 2 * index) & 0xffff;
+        }
+    }
+
+    /**
+     * Returns the size in bytes of an image with the given parameters.
+     *
+     * @param bits        Number of bits of a code.
+     * @param wordCount   Number of words.
+     * @param bucketCount Number of buckets of the perfect hash function.
+     * @param tableSize   Size of the hash table of the bigrams.
+     * @return Size of the image in bytes.
+     */
+    private static int imageSize(int bits, int wordCount, int bucketCount, int tableSize) {
+        return HEADER_SIZE + 8 * (1 << bits) + 4 * bucketCount + (4 + bits / 8) * wordCount + (8 + bits / 8) * tableSize;
+    }
+
+    /**
+     * Memory maps the bigram model stored in the given file. The model is not copied to the heap, except the
+     * probabilities of the codes, and the pages of the file are shared by all processes mapping the same file.
+     *
+     * @param fileName Name of the image file.
+     * @return {@link QuantizedBigramModel} backed by the mapped file.
+     * @throws IOException If the file can not be mapped or does not contain a bigram model.
+     */
+    public static QuantizedBigramModel map(String fileName) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            return new QuantizedBigramModel(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Saves the bigram model to the given file.
+     *
+     * @param fileName Name of the image file.
+     * @throws IOException If the file can not be written.
+     */
+    public void save(String fileName) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer source = buffer.duplicate();
+            source.position(0);
+            source.limit(imageSize(bits, wordCount, bucketCount, tableSize));
+            while (source.hasRemaining()) {
+                channel.write(source);
+            }
+        }
+    }
+
+    /**
+     * Returns the identifier of the given word. A word outside the vocabulary is detected by its fingerprint, so it is
+     * mistaken for a word of the vocabulary with a probability of 2^-32.
+     *
+     * @param word Word to be searched for.
+     * @return Identifier of the word, -1 if the word is not in the vocabulary.
+     */
+    public int getId(String word) {
+        if (wordCount == 0) {
+            return -1;
+        }
+        long hash = hash(word);
+        int id = slot(hash, buffer.getInt(displacementOffset + 4 * bucket(hash, bucketCount)), wordCount);
+        return buffer.getInt(fingerprintOffset + 4 * id) == fingerprint(hash) ? id : -1;
+    }
+
+    /**
+     * Returns the quantized bigram probability P(word2 | word1). If the bigram is not stored, the probability of the
+     * unseen bigrams starting with word1 is returned.
+     *
+     * @param word1 First word in the bigram.
+     * @param word2 Second word in the bigram.
+     * @return Bigram probability P(word2 | word1).
+     */
+    public double getProbability(String word1, String word2) {
+        int first = getId(word1);
+        if (first == -1) {
+            return 0.0;
+        }
+        int second = getId(word2);
+        if (second != -1) {
+            long key = ((long) first << 32) | second;
+            int position = (int) mix(key) & (tableSize - 1);
+            long current;
+            while ((current = buffer.getLong(keyOffset + 8 * position)) != EMPTY) {
+                if (current == key) {
+                    return codebook[getCode(codeOffset, position)];
+                }
+                position = (position + 1) & (tableSize - 1);
+            }
+        }
+        return codebook[getCode(unseenOffset, first)];
+    }
+
+    /**
+     * Returns the number of bits of a quantized probability.
+     *
+     * @return Number of bits of a code.
+     */
+    public int getBits() {
+        return bits;
+    }
+
+    /**
+     * Returns the number of words in the vocabulary.
+     *
+     * @return Number of words.
+     */
+    public int size() {
+        return wordCount;
+    }
+
+    /**
+     * Returns the number of stored bigrams.
+     *
+     * @return Number of bigrams.
+     */
+    public int getBigramCount() {
+        return bigramCount;
+    }
+}
@@ -1,6 +1,7 @@
 package SpellChecker;
 
 import Corpus.Sentence;
+import Dictionary.TxtDictionary;
 import Dictionary.TxtWord;
 import Dictionary.Word;
 import Language.TurkishLanguage;
@@ -9,20 +10,25 @@ import MorphologicalAnalysis.FsmParseList;
 import Util.FileUtils;
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 public class SimpleSpellChecker implements SpellChecker {
     protected FsmMorphologicalAnalyzer fsm;
     protected SpellCheckerParameter parameter;
+    protected AnalysisCache analysisCache;
+    private SymmetricDeleteIndex symmetricDeleteIndex = null;
+    protected DiacriticRestorer diacriticRestorer;
+    private LexiconAutomaton properNounIndex;
     private final HashMap<String, String> mergedWords = new HashMap<>();
     private final HashMap<String, String> splitWords = new HashMap<>();
-    private static final ArrayList<String> shortcuts = new ArrayList<>(Arrays.asList("cc", "cm2", "cm", "gb", "ghz", "gr", "gram", "hz", "inc", "inch", "inç",
-            "kg", "kw", "kva", "litre", "lt", "m2", "m3", "mah", "mb", "metre", "mg", "mhz", "ml", "mm", "mp", "ms", "kb", "mb", "gb", "tb", "pb", "kbps",
-            "mt", "mv", "tb", "tl", "va", "volt", "watt", "ah", "hp", "oz", "rpm", "dpi", "ppm", "ohm", "kwh", "kcal", "kbit", "mbit", "gbit", "bit", "byte",
-            "mbps", "gbps", "cm3", "mm2", "mm3", "khz", "ft", "db", "sn"));
-    private static final ArrayList<String> conditionalShortcuts = new ArrayList<>(Arrays.asList("g", "v", "m", "l", "w", "s"));
+    private static final ThreadLocal<EditCandidateGenerator> candidateGenerator = ThreadLocal.withInitial(EditCandidateGenerator::new);
+    private static final ArrayList<String> liList = new ArrayList<>(Arrays.asList("li", "lı", "lu", "lü"));
+    private static final ArrayList<String> likList = new ArrayList<>(Arrays.asList("lik", "lık", "luk", "lük"));
     private static final ArrayList<String> questionSuffixList = new ArrayList<>(Arrays.asList("mi", "mı", "mu", "mü", "miyim", "misin", "miyiz", "midir",
             "miydi", "mıyım", "mısın", "mıyız", "mıdır", "mıydı", "muyum", "musun", "muyuz", "mudur", "muydu", "müyüm", "müsün", "müyüz", "müdür", "müydü",
             "miydim", "miydin", "miydik", "miymiş", "mıydım", "mıydın", "mıydık", "mıymış", "muydum", "muydun", "muyduk", "muymuş", "müydüm", "müydün",
@@ -30,24 +36,33 @@ public class SimpleSpellChecker implements SpellChecker {
             "mıyımdır", "mısındır", "mıyızdır", "mıydınız", "mıydılar", "mıymışım", "mıymışız", "muyumdur", "musundur", "muyuzdur", "muydunuz", "muydular",
             "muymuşum", "muymuşuz", "müyümdür", "müsündür", "müyüzdür", "müydünüz", "müydüler", "müymüşüm", "müymüşüz", "miymişsin", "miymişler", "mıymışsın",
             "mıymışlar", "muymuşsun", "muymuşlar", "müymüşsün", "müymüşler", "misinizdir", "mısınızdır", "musunuzdur", "müsünüzdür"));
+    private static final ArrayList<String> deDaList = new ArrayList<>(Arrays.asList("da", "de"));
+    private static final int QUESTION_SUFFIX = 0;
+    private static final int DE_DA_SUFFIX = 1;
+    private static final int LI_SUFFIX = 2;
+    private static final int LIK_SUFFIX = 3;
+    private static final SuffixAutomaton suffixAutomaton = createSuffixAutomaton();
 
     /**
      * A constructor of {@link SimpleSpellChecker} class which takes an {@link FsmMorphologicalAnalyzer} as an input and
      * assigns it to the fsm variable. Then it creates a new {@link SpellCheckerParameter} and assigns it to the parameter.
-     * Finally, it calls the loadDictionaries method.
+     * Finally, it creates the analysis cache and calls the loadDictionaries method.
      *
      * @param fsm {@link FsmMorphologicalAnalyzer} type input.
      */
     public SimpleSpellChecker(FsmMorphologicalAnalyzer fsm) {
         this.fsm = fsm;
         this.parameter = new SpellCheckerParameter();
+        this.analysisCache = new AnalysisCache(fsm, parameter.getAnalysisCacheSize());
+        this.analysisCache.setSynchronizedAnalysis(parameter.isSynchronizedAnalysis());
         loadDictionaries();
     }
 
     /**
      * Another constructor of {@link SimpleSpellChecker} class which takes an {@link FsmMorphologicalAnalyzer} and a
      * {@link SpellCheckerParameter} as inputs, assigns {@link FsmMorphologicalAnalyzer} to the fsm variable and
-     * {@link SpellCheckerParameter} to the parameter variable. Then, it calls the loadDictionaries method.
+     * {@link SpellCheckerParameter} to the parameter variable. Then, it creates the analysis cache and calls the
+     * loadDictionaries method.
      *
      * @param fsm       {@link FsmMorphologicalAnalyzer} type input.
      * @param parameter {@link SpellCheckerParameter} type input.
@@ -55,49 +70,51 @@ public class SimpleSpellChecker implements SpellChecker {
     public SimpleSpellChecker(FsmMorphologicalAnalyzer fsm, SpellCheckerParameter parameter) {
         this.fsm = fsm;
         this.parameter = parameter;
+        this.analysisCache = new AnalysisCache(fsm, parameter.getAnalysisCacheSize());
+        this.analysisCache.setSynchronizedAnalysis(parameter.isSynchronizedAnalysis());
         loadDictionaries();
     }
 
     /**
-     * The generateCandidateList method takes a String as an input. Firstly, it creates a String consists of lowercase Turkish letters
-     * and an {@link ArrayList} candidates. Then, it loops i times where i ranges from 0 to the length of given word. It gets substring
-     * from 0 to ith index and concatenates it with substring from i+1 to the last index as a new String called deleted. Then, adds
-     * this String to the candidates {@link ArrayList}. Secondly, it loops j times where j ranges from 0 to length of
-     * lowercase letters String and adds the jth character of this String between substring of given word from 0 to ith index
-     * and the substring from i+1 to the last index, then adds it to the candidates {@link ArrayList}. Thirdly, it loops j
-     * times where j ranges from 0 to length of lowercase letters String and adds the jth character of this String between
-     * substring of given word from 0 to ith index and the substring from i to the last index, then adds it to the candidates {@link ArrayList}.
+     * Replaces the analysis cache of the spell checker with the given cache. Several spell checkers constructed with
+     * the same {@link FsmMorphologicalAnalyzer} can share one cache this way.
      *
-     * @param word String input.
-     * @return ArrayList candidates.
+     * @param analysisCache {@link AnalysisCache} wrapping the morphological analyzer of this spell checker.
      */
-    private ArrayList<Candidate> generateCandidateList(String word) {
-        String s = TurkishLanguage.LOWERCASE_LETTERS;
-        ArrayList<Candidate> candidates = new ArrayList<>();
-        for (int i = 0; i < word.length(); i++) {
-            if (i < word.length() - 1) {
-                Candidate swapped = new Candidate(word.substring(0, i) + word.charAt(i + 1) + word.charAt(i) + word.substring(i + 2), Operator.SPELL_CHECK);
-                candidates.add(swapped);
-            }
-            if (TurkishLanguage.LETTERS.contains("" + word.charAt(i)) || "wxq".contains("" + word.charAt(i))) {
-                Candidate deleted = new Candidate(word.substring(0, i) + word.substring(i + 1), Operator.SPELL_CHECK);
-                if (!deleted.getName().matches("\\d+")) {
-                    candidates.add(deleted);
-                }
-                for (int j = 0; j < s.length(); j++) {
-                    Candidate replaced = new Candidate(word.substring(0, i) + s.charAt(j) + word.substring(i + 1), Operator.SPELL_CHECK);
-                    candidates.add(replaced);
-                }
-                for (int j = 0; j < s.length(); j++) {
-                    Candidate added = new Candidate(word.substring(0, i) + s.charAt(j) + word.substring(i), Operator.SPELL_CHECK);
-                    candidates.add(added);
-                    if (i == word.length() - 1) {
-                        candidates.add(new Candidate(word + s.charAt(j), Operator.SPELL_CHECK));
-                    }
-                }
-            }
+    public void setAnalysisCache(AnalysisCache analysisCache) {
+        this.analysisCache = analysisCache;
+    }
+
+    /**
+     * Returns the analysis cache of the spell checker, which also reports its hit, miss and eviction counts.
+     *
+     * @return {@link AnalysisCache} of the spell checker.
+     */
+    public AnalysisCache getAnalysisCache() {
+        return analysisCache;
+    }
+
+    /**
+     * Compiles the question suffixes, the de and da suffixes and the li and lik suffixes into a single
+     * {@link SuffixAutomaton}, each list being a family of suffixes.
+     *
+     * @return {@link SuffixAutomaton} of the suffix families.
+     */
+    private static SuffixAutomaton createSuffixAutomaton() {
+        SuffixAutomaton automaton = new SuffixAutomaton();
+        for (String suffix : questionSuffixList) {
+            automaton.add(suffix, QUESTION_SUFFIX);
         }
-        return candidates;
+        for (String suffix : deDaList) {
+            automaton.add(suffix, DE_DA_SUFFIX);
+        }
+        for (String suffix : liList) {
+            automaton.add(suffix, LI_SUFFIX);
+        }
+        for (String suffix : likList) {
+            automaton.add(suffix, LIK_SUFFIX);
+        }
+        return automaton;
     }
 
     /**
@@ -106,34 +123,110 @@ public class SimpleSpellChecker implements SpellChecker {
      * @return File reader of the given file.
      */
     protected BufferedReader getReader(String fileName) {
+        return new BufferedReader(new InputStreamReader(getInputStream(fileName), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Opens and returns an input stream of a given file name. If a domain is given in the parameter, the file name is
+     * prefixed with the domain name.
+     * @param fileName File to read
+     * @return Input stream of the given file.
+     */
+    protected InputStream getInputStream(String fileName) {
         if (parameter.getDomain() == null) {
-            return new BufferedReader(new InputStreamReader(FileUtils.getInputStream(fileName), StandardCharsets.UTF_8));
+            return FileUtils.getInputStream(fileName);
         } else {
-            return new BufferedReader(new InputStreamReader(FileUtils.getInputStream(parameter.getDomain() + "_" + fileName), StandardCharsets.UTF_8));
+            return FileUtils.getInputStream(parameter.getDomain() + "_" + fileName);
         }
     }
 
     /**
-     * The candidateList method takes a {@link Word} as an input and creates a candidates {@link ArrayList} by calling generateCandidateList
-     * method with given word. Then, it loops i times, where i ranges from 0 to size of candidates {@link ArrayList} and creates a
-     * {@link FsmParseList} by calling morphologicalAnalysis with each item of candidates {@link ArrayList}. If the size of
-     * {@link FsmParseList} is 0, it then removes the ith item.
+     * The candidateList method takes a {@link Word} as an input. If the symmetric delete index is enabled in the
+     * parameter, the candidates are the words of the index within the given edit distance of the word. Otherwise,
+     * the candidates are the one character edits of the editCandidateList method.
      *
      * @param word {@link Word} input.
      * @return candidates {@link ArrayList}.
      */
     protected ArrayList<Candidate> candidateList(Word word, Sentence sentence) {
-        ArrayList<Candidate> candidates;
-        candidates = generateCandidateList(word.getName());
-        for (int i = 0; i < candidates.size(); i++) {
-            FsmParseList fsmParseList = fsm.morphologicalAnalysis(candidates.get(i).getName());
-            if (fsmParseList.size() == 0) {
-                String newCandidate = fsm.getDictionary().getCorrectForm(candidates.get(i).getName());
-                if (newCandidate != null && fsm.morphologicalAnalysis(newCandidate).size() > 0) {
-                    candidates.set(i, new Candidate(newCandidate, Operator.MISSPELLED_REPLACE));
-                } else {
-                    candidates.remove(i);
-                    i--;
+        if (symmetricDeleteIndex != null) {
+            ArrayList<Candidate> candidates = new ArrayList<>();
+            for (String candidate : symmetricDeleteIndex.lookup(word.getName(), parameter.getSymmetricDeleteDistance())) {
+                candidates.add(new Candidate(candidate, Operator.SPELL_CHECK));
+            }
+            return candidates;
+        }
+        return editCandidateList(word);
+    }
+
+    /**
+     * The editCandidateList method generates all edits of the given word with edit distance one by using an
+     * {@link EditCandidateGenerator}, and keeps only the edits that can be morphologically analyzed. Validation runs in
+     * parallel if the word is at least as long as the parallel validation length of the parameter and the calls to the
+     * morphological analyzer are not serialized by the analysis cache, since parallel validation would only add
+     * overhead otherwise.
+     *
+     * @param word {@link Word} input.
+     * @return {@link ArrayList} of the one character edits of the word that can be analyzed.
+     */
+    protected ArrayList<Candidate> editCandidateList(Word word) {
+        ArrayList<String> edits = new ArrayList<>();
+        candidateGenerator.get().generate(word.getName(), edits::add);
+        int parallelValidationLength = parameter.getParallelValidationLength();
+        return validateCandidates(edits, parallelValidationLength > 0 && word.getName().length() >= parallelValidationLength
+                && !analysisCache.isSynchronizedAnalysis());
+    }
+
+    /**
+     * Checks if the candidateList method returns the same candidates as the editCandidateList method, that is, if the
+     * symmetric delete index is not used. The subclasses whose candidateList method generates other candidates
+     * override this method to return false.
+     *
+     * @return True if the candidates of the candidateList method are the one character edits of the word.
+     */
+    protected boolean hasOnlyEditCandidates() {
+        return symmetricDeleteIndex == null;
+    }
+
+    /**
+     * The validateCandidates method filters the given candidate names in a single pass into a new {@link ArrayList}.
+     * First, it morphologically analyzes all names, in parallel in the validation pool of the parameter if requested,
+     * or in the common pool if the parameter has no validation pool. Then, it creates a {@link Candidate} for each name
+     * having a parse. For each name without a parse, it looks up its correct form in the misspellings list, and adds
+     * the correct form as a candidate if it can be analyzed. Each distinct correct form is analyzed only once. The
+     * order of the names is preserved.
+     *
+     * @param names    Candidate names to be validated.
+     * @param parallel If true, the names are analyzed in parallel.
+     * @return {@link ArrayList} of valid candidates.
+     */
+    protected ArrayList<Candidate> validateCandidates(ArrayList<String> names, boolean parallel) {
+        boolean[] analyzed = new boolean[names.size()];
+        if (parallel) {
+            ForkJoinPool pool = parameter.getValidationPool() != null ? parameter.getValidationPool() : ForkJoinPool.commonPool();
+            pool.submit(() -> IntStream.range(0, names.size()).parallel()
+                    .forEach(i -> analyzed[i] = analysisCache.morphologicalAnalysis(names.get(i)).size() > 0)).join();
+        } else {
+            for (int i = 0; i < names.size(); i++) {
+                analyzed[i] = analysisCache.morphologicalAnalysis(names.get(i)).size() > 0;
+            }
+        }
+        ArrayList<Candidate> candidates = new ArrayList<>();
+        HashMap<String, Boolean> correctForms = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            if (analyzed[i]) {
+                candidates.add(new Candidate(names.get(i), Operator.SPELL_CHECK));
+            } else {
+                String newCandidate = fsm.getDictionary().getCorrectForm(names.get(i));
+                if (newCandidate != null) {
+                    Boolean valid = correctForms.get(newCandidate);
+                    if (valid == null) {
+                        valid = analysisCache.morphologicalAnalysis(newCandidate).size() > 0;
+                        correctForms.put(newCandidate, valid);
+                    }
+                    if (valid) {
+                        candidates.add(new Candidate(newCandidate, Operator.MISSPELLED_REPLACE));
+                    }
                 }
             }
         }
@@ -147,6 +240,8 @@ public class SimpleSpellChecker implements SpellChecker {
      * if the size of candidates greater than 0, it generates a random number and selects an item from candidates {@link ArrayList} with
      * this random number and assign it as newWord. If the size of candidates is not greater than 0, it directly assigns the
      * current word as newWord. At the end, it adds the newWord to the result {@link Sentence}.
+     * If the diacritic restoration is enabled in the parameter, a misspelled ASCII word with a unique diacritic
+     * restoration is replaced by its restoration before any other candidate is generated.
      *
      * @param sentence {@link Sentence} type input.
      * @return Sentence result.
@@ -177,9 +272,14 @@ public class SimpleSpellChecker implements SpellChecker {
             if (forcedSplitCheck(word, result) || forcedShortcutSplitCheck(word, result) || forcedDeDaSplitCheck(word, result) || forcedQuestionSuffixSplitCheck(word, result) || forcedSuffixSplitCheck(word, result)) {
                 continue;
             }
-            FsmParseList fsmParseList = fsm.morphologicalAnalysis(word.getName());
-            FsmParseList upperCaseFsmParseList = fsm.morphologicalAnalysis(Word.toCapital(word.getName()));
+            FsmParseList fsmParseList = analysisCache.morphologicalAnalysis(word.getName());
+            FsmParseList upperCaseFsmParseList = analysisCache.morphologicalAnalysis(Word.toCapital(word.getName()));
             if (fsmParseList.size() == 0 && upperCaseFsmParseList.size() == 0) {
+                Candidate restoration = uniqueDiacriticRestoration(word);
+                if (restoration != null) {
+                    result.addWord(new Word(restoration.getName()));
+                    continue;
+                }
                 candidates = mergedCandidatesList(previousWord, word, nextWord);
                 if (candidates.isEmpty()) {
                     candidates = candidateList(word, sentence);
@@ -300,7 +400,7 @@ public class SimpleSpellChecker implements SpellChecker {
     }
 
     /**
-     * Checks if the given word is a shortcut form, such as "5kg" or "2.5km".
+     * Checks if the given word is a shortcut form, such as "5kg" or "2.5km", as classified by the {@link TokenClassifier}.
      * If it is, it splits the word into its number and unit form and adds them to the given sentence.
      *
      * @param word   the {@link Word} to check for shortcut split
@@ -308,19 +408,7 @@ public class SimpleSpellChecker implements SpellChecker {
      * @return true if the word was split, false otherwise
      */
     protected boolean forcedShortcutSplitCheck(Word word, Sentence result) {
-        StringBuilder shortcutRegex = new StringBuilder("(([1-9][0-9]*)|[0])(([.]|[,])[0-9]*)?(" + shortcuts.get(0));
-        for (int i = 1; i < shortcuts.size(); i++) {
-            shortcutRegex.append("|").append(shortcuts.get(i));
-        }
-        shortcutRegex.append(")");
-
-        StringBuilder conditionalShortcutRegex = new StringBuilder("(([1-9][0-9]{0,2})|[0])(([.]|[,])[0-9]*)?(" + conditionalShortcuts.get(0));
-        for (int i = 1; i < conditionalShortcuts.size(); i++) {
-            conditionalShortcutRegex.append("|").append(conditionalShortcuts.get(i));
-        }
-        conditionalShortcutRegex.append(")");
-
-        if (word.getName().matches(shortcutRegex.toString()) || word.getName().matches(conditionalShortcutRegex.toString())) {
+        if ((TokenClassifier.classify(word.getName()) & TokenClassifier.NUMBER_WITH_UNIT) != 0) {
             AbstractMap.SimpleEntry<String, String> pair = getSplitPair(word);
             result.addWord(new Word(pair.getKey()));
             result.addWord(new Word(pair.getValue()));
@@ -331,7 +419,8 @@ public class SimpleSpellChecker implements SpellChecker {
 
     /**
      * Checks if the given word has a "da" or "de" suffix that needs to be split according to a predefined set of rules.
-     * If the split is needed, the word is replaced with its bare form and "da" or "de" in the given sentence.
+     * If the split is needed, the word is replaced with its bare form and "da" or "de" in the given sentence. Whether
+     * the bare form is a proper noun is looked up in the proper noun index.
      *
      * @param word   the {@link Word} to check for "da" or "de" split
      * @param result the {@link Sentence} that the word belongs to
@@ -341,14 +430,13 @@ public class SimpleSpellChecker implements SpellChecker {
         String wordName = word.getName();
         String capitalizedWordName = Word.toCapital(wordName);
         TxtWord txtWord = null;
-        if (wordName.endsWith("da") || wordName.endsWith("de")) {
-            if (fsm.morphologicalAnalysis(wordName).size() == 0 && fsm.morphologicalAnalysis(capitalizedWordName).size() == 0) {
+        if (suffixAutomaton.matchLengths(wordName, DE_DA_SUFFIX) != 0) {
+            if (analysisCache.morphologicalAnalysis(wordName).size() == 0 && analysisCache.morphologicalAnalysis(capitalizedWordName).size() == 0) {
                 String newWordName = wordName.substring(0, wordName.length() - 2);
-                FsmParseList fsmParseList = fsm.morphologicalAnalysis(newWordName);
-                TxtWord txtNewWord = (TxtWord) fsm.getDictionary().getWord(newWordName.toLowerCase(new Locale("tr", "TR")));
-                if (txtNewWord != null && txtNewWord.isProperNoun()) {
+                FsmParseList fsmParseList = analysisCache.morphologicalAnalysis(newWordName);
+                if (properNounIndex.search(newWordName)) {
                     String newWordNameCapitalized = Word.toCapital(newWordName);
-                    if (fsm.morphologicalAnalysis(newWordNameCapitalized + "'" + "da").size() > 0) {
+                    if (analysisCache.morphologicalAnalysis(newWordNameCapitalized + "'" + "da").size() > 0) {
                         result.addWord(new Word(newWordNameCapitalized + "'" + "da"));
                     } else {
                         result.addWord(new Word(newWordNameCapitalized + "'" + "de"));
@@ -382,7 +470,8 @@ public class SimpleSpellChecker implements SpellChecker {
 
     /**
      * Checks whether the given {@link Word} can be split into a proper noun and a suffix, with an apostrophe in between
-     * and adds the split result to the {@link Sentence} if it's valid.
+     * and adds the split result to the {@link Sentence} if it's valid. The prefixes of the word which are proper nouns
+     * are found by a single forward walk in the proper noun index, and they are tried from the shortest to the longest.
      *
      * @param word the {@link Word} to check for forced suffix split.
      * @param result the {@link Sentence} that the word belongs to
@@ -390,19 +479,18 @@ public class SimpleSpellChecker implements SpellChecker {
      */
     protected boolean forcedSuffixSplitCheck(Word word, Sentence result) {
         String wordName = word.getName();
-        if (fsm.morphologicalAnalysis(wordName).size() > 0) {
+        if (analysisCache.morphologicalAnalysis(wordName).size() > 0) {
             return false;
         }
-        for (int i = 1; i < wordName.length(); i++)
-        {
-            String probableProperNoun = Word.toCapital(wordName).substring(0, i);
-            String probableSuffix = wordName.substring(i);
-            String apostropheWord = probableProperNoun + "'" + probableSuffix;
-            TxtWord txtWord = (TxtWord) fsm.getDictionary().getWord(probableProperNoun.toLowerCase(new Locale("tr", "TR")));
-            if (txtWord != null && txtWord.isProperNoun() && fsm.morphologicalAnalysis(apostropheWord).size() > 0)
-            {
-                result.addWord(new Word(apostropheWord));
-                return true;
+        int state = properNounIndex.getRootState();
+        for (int i = 1; i < wordName.length() && state != -1; i++) {
+            state = properNounIndex.getNextState(state, LexiconAutomaton.toLowerCase(wordName.charAt(i - 1)));
+            if (state != -1 && properNounIndex.isAcceptingState(state)) {
+                String apostropheWord = Word.toCapital(wordName).substring(0, i) + "'" + wordName.substring(i);
+                if (analysisCache.morphologicalAnalysis(apostropheWord).size() > 0) {
+                    result.addWord(new Word(apostropheWord));
+                    return true;
+                }
             }
         }
         return false;
@@ -418,18 +506,16 @@ public class SimpleSpellChecker implements SpellChecker {
      * @return true if the word was merged, false otherwise
      */
     protected boolean forcedSuffixMergeCheck(Word word, Sentence sentence, Word previousWord) {
-        ArrayList<String> liList = new ArrayList<>(Arrays.asList("li", "lı", "lu", "lü"));
-        ArrayList<String> likList = new ArrayList<>(Arrays.asList("lik", "lık", "luk", "lük"));
-        if (liList.contains(word.getName()) || likList.contains(word.getName())) {
-            if (previousWord != null && previousWord.getName().matches("[0-9]+")) {
+        if (suffixAutomaton.contains(word.getName(), LI_SUFFIX) || suffixAutomaton.contains(word.getName(), LIK_SUFFIX)) {
+            if (previousWord != null && (TokenClassifier.classify(previousWord.getName()) & TokenClassifier.NUMERIC) != 0) {
                 for (String suffix : liList) {
-                    if (word.getName().length() == 2 && fsm.morphologicalAnalysis(previousWord.getName() + "'" + suffix).size() > 0) {
+                    if (word.getName().length() == 2 && analysisCache.morphologicalAnalysis(previousWord.getName() + "'" + suffix).size() > 0) {
                         sentence.replaceWord(sentence.wordCount() - 1, new Word(previousWord.getName() + "'" + suffix));
                         return true;
                     }
                 }
                 for (String suffix : likList) {
-                    if (word.getName().length() == 3 && fsm.morphologicalAnalysis(previousWord.getName() + "'" + suffix).size() > 0) {
+                    if (word.getName().length() == 3 && analysisCache.morphologicalAnalysis(previousWord.getName() + "'" + suffix).size() > 0) {
                         sentence.replaceWord(sentence.wordCount() - 1, new Word(previousWord.getName() + "'" + suffix));
                         return true;
                     }
@@ -453,10 +539,11 @@ public class SimpleSpellChecker implements SpellChecker {
      * @return true if merge is valid, false otherwise
      */
     protected boolean forcedHyphenMergeCheck(Word word, Sentence result, Word previousWord, Word nextWord) {
-        if (word.getName().equals("-") || word.getName().equals("–") || word.getName().equals("—")) {
-            if (previousWord != null && nextWord != null && previousWord.getName().matches("[a-zA-ZçöğüşıÇÖĞÜŞİ]+") && nextWord.getName().matches("[a-zA-ZçöğüşıÇÖĞÜŞİ]+")) {
+        if ((TokenClassifier.classify(word.getName()) & TokenClassifier.DASH) != 0) {
+            if (previousWord != null && nextWord != null && (TokenClassifier.classify(previousWord.getName()) & TokenClassifier.LETTERS) != 0
+                    && (TokenClassifier.classify(nextWord.getName()) & TokenClassifier.LETTERS) != 0) {
                 String newWordName = previousWord.getName() + "-" + nextWord.getName();
-                if (fsm.morphologicalAnalysis(newWordName).size() > 0) {
+                if (analysisCache.morphologicalAnalysis(newWordName).size() > 0) {
                     result.replaceWord(result.wordCount() - 1, new Word(newWordName));
                     return true;
                 }
@@ -468,7 +555,8 @@ public class SimpleSpellChecker implements SpellChecker {
     /**
      * Checks whether the current word ends with a valid question suffix and split it if it does.
      * It splits the word with the question suffix and adds the two new words to the sentence.
-     * If the split is valid, it returns true.
+     * If the split is valid, it returns true. The matching question suffixes are found by a single backward scan of
+     * the word in the {@link SuffixAutomaton}, and they are tried from the longest to the shortest.
      *
      * @param word   current {@link Word}
      * @param result the {@link Sentence} that the word belongs to
@@ -476,21 +564,21 @@ public class SimpleSpellChecker implements SpellChecker {
      */
     protected boolean forcedQuestionSuffixSplitCheck(Word word, Sentence result) {
         String wordName = word.getName();
-        if (fsm.morphologicalAnalysis(wordName).size() > 0) {
+        if (analysisCache.morphologicalAnalysis(wordName).size() > 0) {
             return false;
         }
-        for (String questionSuffix : questionSuffixList) {
-            if (wordName.endsWith(questionSuffix)) {
-                String splitWordName = wordName.substring(0, wordName.lastIndexOf(questionSuffix));
-                if (fsm.morphologicalAnalysis(splitWordName).size() < 1) {
-                    return false;
-                }
-                TxtWord splitWordRoot = (TxtWord) fsm.getDictionary().getWord(fsm.morphologicalAnalysis(splitWordName).getParseWithLongestRootWord().getWord().getName());
-                if (fsm.morphologicalAnalysis(splitWordName).size() > 0 && splitWordRoot != null && !splitWordRoot.isCode()) {
-                    result.addWord(new Word(splitWordName));
-                    result.addWord(new Word(questionSuffix));
-                    return true;
-                }
+        for (long lengths = suffixAutomaton.matchLengths(wordName, QUESTION_SUFFIX); lengths != 0; lengths &= ~Long.highestOneBit(lengths)) {
+            int splitIndex = wordName.length() - SuffixAutomaton.longest(lengths);
+            String splitWordName = wordName.substring(0, splitIndex);
+            FsmParseList fsmParseList = analysisCache.morphologicalAnalysis(splitWordName);
+            if (fsmParseList.size() < 1) {
+                return false;
+            }
+            TxtWord splitWordRoot = (TxtWord) fsm.getDictionary().getWord(fsmParseList.getParseWithLongestRootWord().getWord().getName());
+            if (splitWordRoot != null && !splitWordRoot.isCode()) {
+                result.addWord(new Word(splitWordName));
+                result.addWord(new Word(wordName.substring(splitIndex)));
+                return true;
             }
         }
         return false;
@@ -510,7 +598,7 @@ public class SimpleSpellChecker implements SpellChecker {
         Candidate forwardMergeCandidate;
         if (previousWord != null) {
             backwardMergeCandidate = new Candidate(previousWord.getName() + word.getName(), Operator.BACKWARD_MERGE);
-            FsmParseList fsmParseList = fsm.morphologicalAnalysis(backwardMergeCandidate.getName());
+            FsmParseList fsmParseList = analysisCache.morphologicalAnalysis(backwardMergeCandidate.getName());
             if (fsmParseList.size() != 0) {
                 mergedCandidates.add(backwardMergeCandidate);
             }
@@ -518,7 +606,7 @@ public class SimpleSpellChecker implements SpellChecker {
         if (nextWord != null) {
             forwardMergeCandidate = new Candidate(word.getName() + nextWord.getName(), Operator.FORWARD_MERGE);
             if (backwardMergeCandidate == null || !(backwardMergeCandidate.getName().equals(forwardMergeCandidate.getName()))) {
-                FsmParseList fsmParseList = fsm.morphologicalAnalysis(forwardMergeCandidate.getName());
+                FsmParseList fsmParseList = analysisCache.morphologicalAnalysis(forwardMergeCandidate.getName());
                 if (fsmParseList.size() != 0) {
                     mergedCandidates.add(forwardMergeCandidate);
                 }
@@ -528,7 +616,33 @@ public class SimpleSpellChecker implements SpellChecker {
     }
 
     /**
-     * Generates a list of split candidates for the given word.
+     * Generates the candidates of the given word which differ from it only by restoring the diacritics of some of its
+     * letters, such as c to ç or i to ı, by using the {@link DiacriticRestorer} of the spell checker.
+     *
+     * @param word The {@link Word} currently being checked.
+     * @return A list of diacritic restoration candidates.
+     */
+    protected ArrayList<Candidate> diacriticCandidatesList(Word word) {
+        return diacriticRestorer.restorations(word.getName());
+    }
+
+    /**
+     * Returns the unique diacritic restoration of the given word if the diacritic restoration is enabled in the
+     * parameter and the word consists of ASCII characters only.
+     *
+     * @param word The {@link Word} currently being checked.
+     * @return The unique restoration of the word, null if there is no such restoration.
+     */
+    protected Candidate uniqueDiacriticRestoration(Word word) {
+        if (!parameter.isDiacriticRestoration()) {
+            return null;
+        }
+        return diacriticRestorer.uniqueRestoration(word.getName());
+    }
+
+    /**
+     * Generates a list of split candidates for the given word. The second part of a split is analyzed only if the first
+     * part can be analyzed.
      *
      * @param word The {@link Word} currently being checked.
      * @return A list of split candidates.
@@ -538,9 +652,7 @@ public class SimpleSpellChecker implements SpellChecker {
         for (int i = 4; i < word.getName().length() - 3; i++) {
             String firstPart = word.getName().substring(0, i);
             String secondPart = word.getName().substring(i);
-            FsmParseList fsmParseListFirst = fsm.morphologicalAnalysis(firstPart);
-            FsmParseList fsmParseListSecond = fsm.morphologicalAnalysis(secondPart);
-            if (fsmParseListFirst.size() > 0 && fsmParseListSecond.size() > 0) {
+            if (analysisCache.morphologicalAnalysis(firstPart).size() > 0 && analysisCache.morphologicalAnalysis(secondPart).size() > 0) {
                 splitCandidates.add(new Candidate(firstPart + " " + secondPart, Operator.SPLIT));
             }
         }
@@ -548,7 +660,9 @@ public class SimpleSpellChecker implements SpellChecker {
     }
 
     /**
-     * Loads the merged and split lists from the specified files.
+     * Loads the merged and split lists from the specified files. If the symmetric delete index is enabled in the
+     * parameter, it also loads the index. The diacritic restorer is created by the createDiacriticRestorer method, and
+     * the proper noun index is built from the dictionary of the morphological analyzer.
      */
     protected void loadDictionaries() {
         String line;
@@ -556,6 +670,8 @@ public class SimpleSpellChecker implements SpellChecker {
         String result;
         BufferedReader mergedReader;
         BufferedReader splitReader;
+        diacriticRestorer = createDiacriticRestorer();
+        loadProperNounIndex();
         try {
             mergedReader = getReader("merged.txt");
             line = mergedReader.readLine();
@@ -574,10 +690,68 @@ public class SimpleSpellChecker implements SpellChecker {
                 line = splitReader.readLine();
             }
             splitReader.close();
+            if (parameter.getSymmetricDeleteDistance() > 0) {
+                loadSymmetricDeleteIndex();
+            }
         } catch (IOException ignored) {
         }
     }
 
+    /**
+     * Creates the diacritic restorer of the spell checker. The restorations are pruned by the stems of the roots in
+     * the dictionary of the morphological analyzer, and validated by the analysis cache.
+     *
+     * @return {@link DiacriticRestorer} of the spell checker.
+     */
+    protected DiacriticRestorer createDiacriticRestorer() {
+        ArrayList<String> roots = new ArrayList<>();
+        TxtDictionary dictionary = fsm.getDictionary();
+        for (int i = 0; i < dictionary.size(); i++) {
+            Word word = dictionary.getWord(i);
+            if (word instanceof TxtWord && !word.getName().isEmpty()) {
+                roots.add(word.getName());
+            }
+        }
+        return new DiacriticRestorer(roots, name -> analysisCache.morphologicalAnalysis(name).size() > 0);
+    }
+
+    /**
+     * Builds the proper noun index, a {@link LexiconImage} of the names of the proper nouns in the dictionary of the
+     * morphological analyzer. Walking a word forward in the index gives all of its prefixes which are proper nouns in
+     * a single pass, without a dictionary lookup for each prefix.
+     */
+    private void loadProperNounIndex() {
+        Trie trie = new Trie();
+        TxtDictionary dictionary = fsm.getDictionary();
+        for (int i = 0; i < dictionary.size(); i++) {
+            Word word = dictionary.getWord(i);
+            if (word instanceof TxtWord && ((TxtWord) word).isProperNoun() && !word.getName().isEmpty()) {
+                trie.insert(word.getName());
+            }
+        }
+        properNounIndex = LexiconImage.build(trie);
+    }
+
+    /**
+     * Loads the symmetric delete index from symmetric_delete_index.bin if it exists. Otherwise, or if the stored index
+     * supports a smaller edit distance than the one in the parameter, builds the index from the words in
+     * generated_words.txt.
+     *
+     * @throws IOException If the index or the word list can not be read.
+     */
+    private void loadSymmetricDeleteIndex() throws IOException {
+        InputStream indexStream = getInputStream("symmetric_delete_index.bin");
+        if (indexStream != null) {
+            symmetricDeleteIndex = new SymmetricDeleteIndex(indexStream);
+            indexStream.close();
+        }
+        if (symmetricDeleteIndex == null || symmetricDeleteIndex.getMaxDistance() < parameter.getSymmetricDeleteDistance()) {
+            BufferedReader wordReader = getReader("generated_words.txt");
+            symmetricDeleteIndex = new SymmetricDeleteIndex(wordReader, parameter.getSymmetricDeleteDistance());
+            wordReader.close();
+        }
+    }
+
     /**
      * Returns the correct form of a given word by looking it up in the provided dictionary.
      *
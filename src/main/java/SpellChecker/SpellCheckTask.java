@@ -0,0 +1,49 @@
+package SpellChecker;
+
+import Corpus.Sentence;
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+
+class SpellCheckTask extends RecursiveAction {
+    private static final int SEQUENTIAL_THRESHOLD = 16;
+    private final SpellChecker spellChecker;
+    private final List<Sentence> sentences;
+    private final Sentence[] results;
+    private final int start;
+    private final int end;
+
+    /**
+     * Constructs a task which spell checks the sentences in the range [start, end) of the given list and stores the
+     * corrected sentences at the same indexes of the results array.
+     *
+     * @param spellChecker {@link SpellChecker} used to check the sentences.
+     * @param sentences    Sentences to be checked.
+     * @param results      Array of the corrected sentences.
+     * @param start        Index of the first sentence of the task.
+     * @param end          Index after the last sentence of the task.
+     */
+    SpellCheckTask(SpellChecker spellChecker, List<Sentence> sentences, Sentence[] results, int start, int end) {
+        this.spellChecker = spellChecker;
+        this.sentences = sentences;
+        this.results = results;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Checks the sentences directly if the range is small, otherwise splits the range into two halves and checks them
+     * in parallel.
+     */
+    @Override
+    protected void compute() {
+        if (end - start <= SEQUENTIAL_THRESHOLD) {
+            for (int i = start; i < end; i++) {
+                results[i] = spellChecker.spellCheck(sentences.get(i));
+            }
+        } else {
+            int middle = (start + end) >>> 1;
+            invokeAll(new SpellCheckTask(spellChecker, sentences, results, start, middle),
+                    new SpellCheckTask(spellChecker, sentences, results, middle, end));
+        }
+    }
+}
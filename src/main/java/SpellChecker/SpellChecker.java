@@ -1,7 +1,18 @@
 package SpellChecker;
 
 import Corpus.Sentence;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 
+/**
+ * Spell checker of Turkish sentences. The spell checkers of this package are thread safe once constructed: they keep
+ * no state between calls except their dictionaries, which are only read, and their {@link AnalysisCache}, which is
+ * a concurrent cache that serializes the calls to the morphological analyzer by default. A single instance can
+ * therefore be shared by any number of threads, and the batch methods use one instance for all their workers.
+ */
 public interface SpellChecker {
 
     /**
@@ -11,4 +22,44 @@ public interface SpellChecker {
      * @return Sentence result.
      */
     Sentence spellCheck(Sentence sentence);
+
+    /**
+     * Spell checks the given sentences in parallel on the common fork-join pool.
+     *
+     * @param sentences Sentences to be checked.
+     * @return {@link ArrayList} of the corrected sentences, in the order of the input sentences.
+     */
+    default ArrayList<Sentence> spellCheck(List<Sentence> sentences) {
+        return spellCheck(sentences, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Spell checks the given sentences in parallel on the given fork-join pool. The sentences are recursively split
+     * into halves until each task checks a small range of sentences, and each corrected sentence is stored at the
+     * index of its input sentence.
+     *
+     * @param sentences Sentences to be checked.
+     * @param pool      {@link ForkJoinPool} executing the checks.
+     * @return {@link ArrayList} of the corrected sentences, in the order of the input sentences.
+     */
+    default ArrayList<Sentence> spellCheck(List<Sentence> sentences, ForkJoinPool pool) {
+        Sentence[] results = new Sentence[sentences.size()];
+        pool.invoke(new SpellCheckTask(this, sentences, results, 0, results.length));
+        return new ArrayList<>(Arrays.asList(results));
+    }
+
+    /**
+     * Spell checks the given sentences asynchronously on the given fork-join pool.
+     *
+     * @param sentences Sentences to be checked.
+     * @param pool      {@link ForkJoinPool} executing the checks.
+     * @return {@link CompletableFuture} completed with the corrected sentences, in the order of the input sentences.
+     */
+    default CompletableFuture<ArrayList<Sentence>> spellCheckAsync(List<Sentence> sentences, ForkJoinPool pool) {
+        return CompletableFuture.supplyAsync(() -> {
+            Sentence[] results = new Sentence[sentences.size()];
+            new SpellCheckTask(this, sentences, results, 0, results.length).invoke();
+            return new ArrayList<>(Arrays.asList(results));
+        }, pool);
+    }
 }
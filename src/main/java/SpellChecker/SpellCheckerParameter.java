@@ -3,17 +3,46 @@ package SpellChecker;
 import Corpus.Sentence;
 import Dictionary.Word;
 
+import java.util.concurrent.ForkJoinPool;
+
 public class SpellCheckerParameter {
     private double threshold = 0.0;
     private boolean suffixCheck = true;
     private boolean rootNGram = true;
     private int minWordLength = 4;
     private String domain = null;
+    private int analysisCacheSize = 100000;
+    private int parallelValidationLength = 0;
+    private ForkJoinPool validationPool = null;
+    private boolean synchronizedAnalysis = true;
+    private int symmetricDeleteDistance = 0;
+    private String lexiconImageFile = null;
+    private boolean dawgLexicon = false;
+    private int trieCandidateLimit = 0;
+    private int trieExpansionLimit = 0;
+    private boolean levenshteinAutomaton = false;
+    private int morphologicalLexiconLength = 0;
+    private int morphologicalLexiconCacheSize = 100000;
+    private int contextWindowSize = 0;
+    private String contextListImageFile = null;
+    private int bigramCacheSize = 0;
+    private boolean latticeDecoder = false;
+    private int latticeBeamWidth = 0;
+    private boolean tieredCandidates = false;
+    private double tieredCandidateMargin = 0.0;
+    private boolean diacriticRestoration = false;
 
     /**
      * Constructs a SpellCheckerParameter object with default values.
-     * The default threshold is 0.0, the suffix check is enabled, the root ngram is enabled,
-     * the minimum word length is 4 and domain name value is null.
+     * The default threshold is 0.0, the suffix check is enabled, the root ngram is enabled, the minimum word length is
+     * 4, domain name value is null, the analysis cache holds 100000 surface forms, candidates are validated
+     * sequentially, the parallel validation uses the common pool, the calls to the morphological analyzer are
+     * serialized, the symmetric delete index is disabled, the lexicon image file is null, the lexicon is not minimized,
+     * the number of candidates and expansions of the trie based spell checker are not limited, the Levenshtein
+     * automaton mode is disabled, the lazy morphological lexicon is disabled and caches 100000 expanded prefixes, the
+     * context window contains only the current sentence, the context list image file is null, the bigram probabilities
+     * are not cached across sentences, the n-gram spell checker corrects the words greedily from left to right, it
+     * scores all candidates of a misspelled word at once and the diacritic restoration is disabled.
      */
     public SpellCheckerParameter() {
     }
@@ -66,6 +95,220 @@ public class SpellCheckerParameter {
         this.domain = domain;
     }
 
+    /**
+     * Sets the maximum number of surface forms whose morphological analyses are cached by the spell checker.
+     *
+     * @param analysisCacheSize the size of the analysis cache, 0 disables caching
+     */
+    public void setAnalysisCacheSize(int analysisCacheSize) {
+        this.analysisCacheSize = analysisCacheSize;
+    }
+
+    /**
+     * Sets the minimum word length for which the edit candidates of a word are validated in parallel. Since the calls
+     * to the morphological analyzer would be serialized, the candidates are validated in parallel only if the
+     * synchronized analysis is disabled.
+     * @see #setSynchronizedAnalysis(boolean)
+     *
+     * @param parallelValidationLength the minimum word length for parallel validation, 0 disables parallel validation
+     */
+    public void setParallelValidationLength(int parallelValidationLength) {
+        this.parallelValidationLength = parallelValidationLength;
+    }
+
+    /**
+     * Sets the fork-join pool in which the edit candidates are validated in parallel.
+     *
+     * @param validationPool the pool validating the candidates, null uses the common pool
+     */
+    public void setValidationPool(ForkJoinPool validationPool) {
+        this.validationPool = validationPool;
+    }
+
+    /**
+     * Enables or disables the serialization of the calls to the morphological analyzer on analysis cache misses. The
+     * analyzer keeps its own unsynchronized cache, so the serialization can only be disabled if the analyzer is
+     * constructed with a cache size of 0.
+     * @see AnalysisCache#setSynchronizedAnalysis(boolean)
+     *
+     * @param synchronizedAnalysis a boolean indicating whether the calls to the analyzer should be serialized (true) or not (false)
+     */
+    public void setSynchronizedAnalysis(boolean synchronizedAnalysis) {
+        this.synchronizedAnalysis = synchronizedAnalysis;
+    }
+
+    /**
+     * Sets the maximum edit distance of the candidates looked up in the symmetric delete index. If it is positive, the
+     * candidates of a misspelled word are looked up in the index instead of generating all edits of the word.
+     * @see SymmetricDeleteIndex
+     *
+     * @param symmetricDeleteDistance the maximum edit distance, 1 or 2, 0 disables the symmetric delete index
+     */
+    public void setSymmetricDeleteDistance(int symmetricDeleteDistance) {
+        this.symmetricDeleteDistance = symmetricDeleteDistance;
+    }
+
+    /**
+     * Sets the name of the prebuilt lexicon image file, which is memory mapped by the trie based spell checker instead
+     * of building its lexicon from generated_words.txt.
+     * @see LexiconImage
+     *
+     * @param lexiconImageFile the name of the lexicon image file, null builds the lexicon from the word list
+     */
+    public void setLexiconImageFile(String lexiconImageFile) {
+        this.lexiconImageFile = lexiconImageFile;
+    }
+
+    /**
+     * Enables or disables minimizing the lexicon of the trie based spell checker built from generated_words.txt. The
+     * minimized automaton merges shared suffixes as well as shared prefixes, so it has much fewer states than the trie.
+     * @see DawgBuilder
+     *
+     * @param dawgLexicon a boolean indicating whether the lexicon should be minimized (true) or not (false)
+     */
+    public void setDawgLexicon(boolean dawgLexicon) {
+        this.dawgLexicon = dawgLexicon;
+    }
+
+    /**
+     * Sets the maximum number of candidates the trie based spell checker returns for a word. Since the candidates are
+     * searched in increasing order of their penalties, the candidates with the lowest penalties are returned.
+     *
+     * @param trieCandidateLimit the maximum number of candidates, 0 does not limit the candidates
+     */
+    public void setTrieCandidateLimit(int trieCandidateLimit) {
+        this.trieCandidateLimit = trieCandidateLimit;
+    }
+
+    /**
+     * Sets the maximum number of search states the trie based spell checker expands for a word, which bounds the time
+     * spent on a single word.
+     *
+     * @param trieExpansionLimit the maximum number of expanded states, 0 does not limit the expansions
+     */
+    public void setTrieExpansionLimit(int trieExpansionLimit) {
+        this.trieExpansionLimit = trieExpansionLimit;
+    }
+
+    /**
+     * Enables or disables the Levenshtein automaton mode of the trie based spell checker. In this mode, the lexicon is
+     * walked once together with a weighted Damerau-Levenshtein automaton of the misspelled word, instead of generating
+     * edited candidates and searching each of them in the lexicon.
+     *
+     * @param levenshteinAutomaton a boolean indicating whether the Levenshtein automaton mode should be enabled (true) or disabled (false)
+     */
+    public void setLevenshteinAutomaton(boolean levenshteinAutomaton) {
+        this.levenshteinAutomaton = levenshteinAutomaton;
+    }
+
+    /**
+     * Sets the maximum length of the surface forms generated by the lazy morphological lexicon. If it is positive, the
+     * trie based spell checker uses a {@link MorphologicalLexicon}, which expands the root dictionary and the suffix
+     * morphotactics of the morphological analyzer on demand, instead of the lexicon built from generated_words.txt.
+     * @see MorphologicalLexicon
+     *
+     * @param morphologicalLexiconLength the maximum length of the generated surface forms, 0 disables the lazy lexicon
+     */
+    public void setMorphologicalLexiconLength(int morphologicalLexiconLength) {
+        this.morphologicalLexiconLength = morphologicalLexiconLength;
+    }
+
+    /**
+     * Sets the number of expanded prefixes kept in the cache of the lazy morphological lexicon. The cache is shared by
+     * all searches, and a prefix evicted from it is expanded again when it is visited.
+     * @see MorphologicalLexicon
+     *
+     * @param morphologicalLexiconCacheSize the maximum number of expanded prefixes kept in the cache
+     */
+    public void setMorphologicalLexiconCacheSize(int morphologicalLexiconCacheSize) {
+        this.morphologicalLexiconCacheSize = morphologicalLexiconCacheSize;
+    }
+
+    /**
+     * Sets the number of sentences before and after the current sentence whose words are used as context when a
+     * document is spell checked by the context based spell checker.
+     * @see ContextBasedSpellChecker#spellCheckDocument(java.util.List)
+     *
+     * @param contextWindowSize the number of neighbouring sentences on each side, 0 uses only the current sentence
+     */
+    public void setContextWindowSize(int contextWindowSize) {
+        this.contextWindowSize = contextWindowSize;
+    }
+
+    /**
+     * Sets the name of the prebuilt context list image file, which is memory mapped by the context based spell checker
+     * instead of reading context_list.txt.
+     * @see CompactContextList
+     *
+     * @param contextListImageFile the name of the context list image file, null reads the context list from the text file
+     */
+    public void setContextListImageFile(String contextListImageFile) {
+        this.contextListImageFile = contextListImageFile;
+    }
+
+    /**
+     * Sets the number of bigram probabilities cached by the n-gram spell checker across sentences. Within a sentence,
+     * the probabilities are always memoized.
+     *
+     * @param bigramCacheSize the capacity of the bigram cache, 0 disables the cache
+     */
+    public void setBigramCacheSize(int bigramCacheSize) {
+        this.bigramCacheSize = bigramCacheSize;
+    }
+
+    /**
+     * Sets whether the n-gram spell checker decodes a lattice of the corrections of the whole sentence instead of
+     * correcting the words greedily from left to right.
+     * @see NGramSpellChecker#spellCheck(Sentence)
+     *
+     * @param latticeDecoder true to decode a lattice, false to correct the words greedily
+     */
+    public void setLatticeDecoder(boolean latticeDecoder) {
+        this.latticeDecoder = latticeDecoder;
+    }
+
+    /**
+     * Sets the number of hypotheses kept at each position of the lattice by the lattice decoder.
+     *
+     * @param latticeBeamWidth the beam width, 0 keeps all hypotheses
+     */
+    public void setLatticeBeamWidth(int latticeBeamWidth) {
+        this.latticeBeamWidth = latticeBeamWidth;
+    }
+
+    /**
+     * Sets whether the n-gram spell checker generates the candidates of a misspelled word in tiers, from diacritic
+     * restorations to one character edits to the remaining candidates, and stops after the first tier having a
+     * candidate whose bigram probability exceeds the threshold by the tiered candidate margin.
+     * @see NGramSpellChecker#spellCheck(Sentence)
+     *
+     * @param tieredCandidates true to generate the candidates in tiers, false to generate all candidates at once
+     */
+    public void setTieredCandidates(boolean tieredCandidates) {
+        this.tieredCandidates = tieredCandidates;
+    }
+
+    /**
+     * Sets the margin by which the bigram probability of a candidate must exceed the threshold to stop the tiered
+     * candidate generation.
+     *
+     * @param tieredCandidateMargin the margin over the threshold
+     */
+    public void setTieredCandidateMargin(double tieredCandidateMargin) {
+        this.tieredCandidateMargin = tieredCandidateMargin;
+    }
+
+    /**
+     * Sets whether a misspelled word consisting of ASCII characters only is replaced by its diacritic restoration,
+     * such as kucuk by küçük, before any other candidate is generated, if the word has exactly one restoration.
+     * @see DiacriticRestorer#uniqueRestoration(String)
+     *
+     * @param diacriticRestoration true to replace the words having a unique restoration, false otherwise
+     */
+    public void setDiacriticRestoration(boolean diacriticRestoration) {
+        this.diacriticRestoration = diacriticRestoration;
+    }
+
     /**
      * Returns the threshold value used in calculating the n-gram probabilities.
      *
@@ -113,4 +356,193 @@ public class SpellCheckerParameter {
     public String getDomain() {
         return domain;
     }
+
+    /**
+     * Returns the maximum number of surface forms whose morphological analyses are cached by the spell checker.
+     *
+     * @return the size of the analysis cache
+     */
+    public int getAnalysisCacheSize() {
+        return analysisCacheSize;
+    }
+
+    /**
+     * Returns the minimum word length for which the edit candidates of a word are validated in parallel.
+     *
+     * @return the minimum word length for parallel validation, 0 if parallel validation is disabled
+     */
+    public int getParallelValidationLength() {
+        return parallelValidationLength;
+    }
+
+    /**
+     * Returns the fork-join pool in which the edit candidates are validated in parallel.
+     *
+     * @return the pool validating the candidates, null if the common pool is used
+     */
+    public ForkJoinPool getValidationPool() {
+        return validationPool;
+    }
+
+    /**
+     * Returns whether the calls to the morphological analyzer on analysis cache misses are serialized.
+     *
+     * @return true if the calls to the analyzer are serialized, false otherwise
+     */
+    public boolean isSynchronizedAnalysis() {
+        return synchronizedAnalysis;
+    }
+
+    /**
+     * Returns the maximum edit distance of the candidates looked up in the symmetric delete index.
+     * @see SymmetricDeleteIndex
+     *
+     * @return the maximum edit distance, 0 if the symmetric delete index is disabled
+     */
+    public int getSymmetricDeleteDistance() {
+        return symmetricDeleteDistance;
+    }
+
+    /**
+     * Returns the name of the prebuilt lexicon image file of the trie based spell checker.
+     * @see LexiconImage
+     *
+     * @return the name of the lexicon image file, null if the lexicon is built from the word list
+     */
+    public String getLexiconImageFile() {
+        return lexiconImageFile;
+    }
+
+    /**
+     * Returns whether the lexicon of the trie based spell checker is minimized.
+     * @see DawgBuilder
+     *
+     * @return a boolean indicating whether the lexicon is minimized
+     */
+    public boolean isDawgLexicon() {
+        return dawgLexicon;
+    }
+
+    /**
+     * Returns the maximum number of candidates the trie based spell checker returns for a word.
+     *
+     * @return the maximum number of candidates, 0 if the candidates are not limited
+     */
+    public int getTrieCandidateLimit() {
+        return trieCandidateLimit;
+    }
+
+    /**
+     * Returns the maximum number of search states the trie based spell checker expands for a word.
+     *
+     * @return the maximum number of expanded states, 0 if the expansions are not limited
+     */
+    public int getTrieExpansionLimit() {
+        return trieExpansionLimit;
+    }
+
+    /**
+     * Returns whether the Levenshtein automaton mode of the trie based spell checker is enabled.
+     *
+     * @return a boolean indicating whether the Levenshtein automaton mode is enabled
+     */
+    public boolean isLevenshteinAutomaton() {
+        return levenshteinAutomaton;
+    }
+
+    /**
+     * Returns the maximum length of the surface forms generated by the lazy morphological lexicon.
+     * @see MorphologicalLexicon
+     *
+     * @return the maximum length of the generated surface forms, 0 if the lazy lexicon is disabled
+     */
+    public int getMorphologicalLexiconLength() {
+        return morphologicalLexiconLength;
+    }
+
+    /**
+     * Returns the number of expanded prefixes kept in the cache of the lazy morphological lexicon.
+     * @see MorphologicalLexicon
+     *
+     * @return the maximum number of expanded prefixes kept in the cache
+     */
+    public int getMorphologicalLexiconCacheSize() {
+        return morphologicalLexiconCacheSize;
+    }
+
+    /**
+     * Returns the number of sentences before and after the current sentence whose words are used as context when a
+     * document is spell checked by the context based spell checker.
+     * @see ContextBasedSpellChecker#spellCheckDocument(java.util.List)
+     *
+     * @return the number of neighbouring sentences on each side
+     */
+    public int getContextWindowSize() {
+        return contextWindowSize;
+    }
+
+    /**
+     * Returns the name of the prebuilt context list image file of the context based spell checker.
+     * @see CompactContextList
+     *
+     * @return the name of the context list image file, null if the context list is read from the text file
+     */
+    public String getContextListImageFile() {
+        return contextListImageFile;
+    }
+
+    /**
+     * Returns the number of bigram probabilities cached by the n-gram spell checker across sentences.
+     *
+     * @return the capacity of the bigram cache, 0 if the cache is disabled
+     */
+    public int getBigramCacheSize() {
+        return bigramCacheSize;
+    }
+
+    /**
+     * Returns whether the n-gram spell checker decodes a lattice of the corrections of the whole sentence.
+     *
+     * @return true if a lattice is decoded, false if the words are corrected greedily
+     */
+    public boolean isLatticeDecoder() {
+        return latticeDecoder;
+    }
+
+    /**
+     * Returns the number of hypotheses kept at each position of the lattice by the lattice decoder.
+     *
+     * @return the beam width, 0 if all hypotheses are kept
+     */
+    public int getLatticeBeamWidth() {
+        return latticeBeamWidth;
+    }
+
+    /**
+     * Returns whether the n-gram spell checker generates the candidates of a misspelled word in tiers.
+     *
+     * @return true if the candidates are generated in tiers, false if they are generated at once
+     */
+    public boolean isTieredCandidates() {
+        return tieredCandidates;
+    }
+
+    /**
+     * Returns the margin by which the bigram probability of a candidate must exceed the threshold to stop the tiered
+     * candidate generation.
+     *
+     * @return the margin over the threshold
+     */
+    public double getTieredCandidateMargin() {
+        return tieredCandidateMargin;
+    }
+
+    /**
+     * Returns whether a misspelled ASCII word having a unique diacritic restoration is replaced by its restoration.
+     *
+     * @return true if the words having a unique restoration are replaced, false otherwise
+     */
+    public boolean isDiacriticRestoration() {
+        return diacriticRestoration;
+    }
 }
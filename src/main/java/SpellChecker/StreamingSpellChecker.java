@@ -0,0 +1,256 @@
+package SpellChecker;
+
+import Corpus.Sentence;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class StreamingSpellChecker {
+    private final SpellChecker spellChecker;
+    private final int workerCount;
+    private final int readAhead;
+
+    /**
+     * A constructor of {@link StreamingSpellChecker} class which checks the sentences one by one in the thread
+     * consuming the results.
+     *
+     * @param spellChecker {@link SpellChecker} used to check the sentences.
+     */
+    public StreamingSpellChecker(SpellChecker spellChecker) {
+        this(spellChecker, 0, 1);
+    }
+
+    /**
+     * Another constructor of {@link StreamingSpellChecker} class which checks the sentences with the given number of
+     * worker threads. At most readAhead sentences are read before their results are consumed, so the memory used does
+     * not depend on the size of the input.
+     *
+     * @param spellChecker {@link SpellChecker} used to check the sentences.
+     * @param workerCount  Number of worker threads, 0 checks the sentences in the consuming thread.
+     * @param readAhead    Maximum number of sentences being checked or waiting to be consumed.
+     */
+    public StreamingSpellChecker(SpellChecker spellChecker, int workerCount, int readAhead) {
+        this.spellChecker = spellChecker;
+        this.workerCount = workerCount;
+        this.readAhead = Math.max(1, readAhead);
+    }
+
+    /**
+     * Iterator of corrected sentences which must be closed if it is not consumed to the end, so that its worker
+     * threads are stopped.
+     */
+    public interface SentenceIterator extends Iterator<Sentence>, AutoCloseable {
+
+        /**
+         * Stops the worker threads, discarding the sentences not consumed yet. The iterator has no more sentences
+         * after it is closed.
+         */
+        @Override
+        void close();
+    }
+
+    /**
+     * Iterator which lazily reads sentences from a source iterator and returns their corrected forms in the same
+     * order. If there are worker threads, the sentences are checked by them and their futures wait in a queue bounded
+     * by the read ahead size. The worker threads are started when the first sentence is read, and are stopped when
+     * the source is exhausted or the iterator is closed. Idle worker threads also stop by themselves after a second,
+     * so an iterator which is neither consumed nor closed does not keep them alive.
+     */
+    private class CheckingIterator implements SentenceIterator {
+        private final Iterator<Sentence> source;
+        private final ArrayDeque<Future<Sentence>> pending = new ArrayDeque<>();
+        private ThreadPoolExecutor executor = null;
+        private boolean closed = false;
+
+        CheckingIterator(Iterator<Sentence> source) {
+            this.source = source;
+        }
+
+        /**
+         * Reads sentences from the source and submits them to the workers until the queue is full, starting the
+         * workers if they are not started yet.
+         */
+        private void fill() {
+            while (!closed && pending.size() < readAhead && source.hasNext()) {
+                if (executor == null) {
+                    executor = new ThreadPoolExecutor(workerCount, workerCount, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                        Thread thread = new Thread(runnable, "spell-checker-worker");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    executor.allowCoreThreadTimeOut(true);
+                }
+                Sentence sentence = source.next();
+                pending.addLast(executor.submit(() -> spellChecker.spellCheck(sentence)));
+            }
+            if (pending.isEmpty()) {
+                close();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (closed) {
+                return false;
+            }
+            if (workerCount == 0) {
+                return source.hasNext();
+            }
+            fill();
+            return !pending.isEmpty();
+        }
+
+        @Override
+        public Sentence next() {
+            if (closed) {
+                throw new NoSuchElementException();
+            }
+            if (workerCount == 0) {
+                return spellChecker.spellCheck(source.next());
+            }
+            fill();
+            if (pending.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            try {
+                return pending.removeFirst().get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+                throw new IllegalStateException(e);
+            } catch (ExecutionException e) {
+                close();
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            if (executor != null) {
+                executor.shutdownNow();
+                executor = null;
+            }
+            pending.clear();
+        }
+    }
+
+    /**
+     * Iterator which reads one sentence per line from a reader.
+     */
+    private static class LineIterator implements Iterator<Sentence> {
+        private final BufferedReader reader;
+        private String line;
+
+        LineIterator(Reader reader) {
+            this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+            readLine();
+        }
+
+        private void readLine() {
+            try {
+                line = reader.readLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return line != null;
+        }
+
+        @Override
+        public Sentence next() {
+            if (line == null) {
+                throw new NoSuchElementException();
+            }
+            Sentence sentence = new Sentence(line);
+            readLine();
+            return sentence;
+        }
+    }
+
+    /**
+     * Returns an iterator of the corrected forms of the given sentences. The sentences are read from the given iterator
+     * only when needed. If the iterator is not consumed to the end, it should be closed, for example with a
+     * try-with-resources statement, to stop its worker threads at once.
+     *
+     * @param sentences Iterator of the sentences to be checked.
+     * @return {@link SentenceIterator} of the corrected sentences, in the order of the input sentences.
+     */
+    public SentenceIterator spellCheck(Iterator<Sentence> sentences) {
+        return new CheckingIterator(sentences);
+    }
+
+    /**
+     * Returns a lazy, ordered stream of the corrected forms of the given sentences. Closing the stream stops the worker
+     * threads.
+     *
+     * @param sentences Iterator of the sentences to be checked.
+     * @return Stream of the corrected sentences, in the order of the input sentences.
+     */
+    public Stream<Sentence> stream(Iterator<Sentence> sentences) {
+        CheckingIterator iterator = new CheckingIterator(sentences);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close);
+    }
+
+    /**
+     * Returns a lazy, ordered stream of the corrected forms of the sentences read from the given reader, one sentence
+     * per line. Closing the stream stops the worker threads, but does not close the reader.
+     *
+     * @param reader Reader of the sentences to be checked.
+     * @return Stream of the corrected sentences, in the order of the input lines.
+     */
+    public Stream<Sentence> stream(Reader reader) {
+        return stream(new LineIterator(reader));
+    }
+
+    /**
+     * Reads sentences from the given reader, one sentence per line, and writes their corrected forms to the given
+     * writer, one sentence per line.
+     *
+     * @param reader Reader of the sentences to be checked.
+     * @param writer Writer of the corrected sentences.
+     * @throws IOException If the sentences can not be read or written.
+     */
+    public void spellCheck(Reader reader, Writer writer) throws IOException {
+        CheckingIterator iterator = new CheckingIterator(new LineIterator(reader));
+        try {
+            while (iterator.hasNext()) {
+                writer.write(iterator.next().toString());
+                writer.write('\n');
+            }
+            writer.flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            iterator.close();
+        }
+    }
+
+    /**
+     * Reads UTF-8 encoded sentences from the given input stream, one sentence per line, and writes their corrected
+     * forms to the given output stream in UTF-8, one sentence per line.
+     *
+     * @param inputStream  Input stream of the sentences to be checked.
+     * @param outputStream Output stream of the corrected sentences.
+     * @throws IOException If the sentences can not be read or written.
+     */
+    public void spellCheck(InputStream inputStream, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        spellCheck(new InputStreamReader(inputStream, StandardCharsets.UTF_8), writer);
+    }
+}
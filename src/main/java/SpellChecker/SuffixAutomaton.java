@@ -0,0 +1,117 @@
+package SpellChecker;
+
+public class SuffixAutomaton {
+    public static final int MAXIMUM_SUFFIX_LENGTH = 63;
+
+    private static class Node {
+        private char[] characters = new char[0];
+        private Node[] children = new Node[0];
+        private int families = 0;
+
+        /**
+         * Returns the child of the node reached by the given character.
+         *
+         * @param character Character of the transition.
+         * @return Child of the node, null if there is no transition with the character.
+         */
+        private Node getChild(char character) {
+            for (int i = 0; i < characters.length; i++) {
+                if (characters[i] == character) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Adds a child to the node with the given character, if the node has no such child.
+         *
+         * @param character Character of the transition.
+         * @return Child of the node reached by the character.
+         */
+        private Node addChild(char character) {
+            Node child = getChild(character);
+            if (child == null) {
+                child = new Node();
+                int count = characters.length;
+                char[] newCharacters = new char[count + 1];
+                Node[] newChildren = new Node[count + 1];
+                System.arraycopy(characters, 0, newCharacters, 0, count);
+                System.arraycopy(children, 0, newChildren, 0, count);
+                newCharacters[count] = character;
+                newChildren[count] = child;
+                characters = newCharacters;
+                children = newChildren;
+            }
+            return child;
+        }
+    }
+
+    private final Node root = new Node();
+
+    /**
+     * Adds a suffix to the given family of suffixes. The suffix is inserted into a trie in reverse order, so a word is
+     * matched against all suffixes of all families by reading it once from its end. A family is identified by an
+     * integer between 0 and 31, and a suffix may belong to several families.
+     *
+     * @param suffix Suffix to be added, at most 63 characters long.
+     * @param family Family of the suffix.
+     */
+    public void add(String suffix, int family) {
+        if (suffix.isEmpty() || suffix.length() > MAXIMUM_SUFFIX_LENGTH) {
+            throw new IllegalArgumentException("Suffix length must be between 1 and " + MAXIMUM_SUFFIX_LENGTH + ": " + suffix);
+        }
+        Node node = root;
+        for (int i = suffix.length() - 1; i >= 0; i--) {
+            node = node.addChild(suffix.charAt(i));
+        }
+        node.families |= 1 << family;
+    }
+
+    /**
+     * Reads the given word backwards from its end, and returns the lengths of the suffixes of the given family that
+     * the word ends with, as a bitmask in which the bit of each length is set. The scan stops when the trie has no
+     * transition for the next character, so it reads at most the length of the longest suffix. The matches can be
+     * visited from the longest to the shortest by taking the highest bit of the mask first.
+     *
+     * @param word   Word to be matched.
+     * @param family Family of the suffixes.
+     * @return Bitmask of the lengths of the matching suffixes, 0 if no suffix of the family matches.
+     */
+    public long matchLengths(String word, int family) {
+        long lengths = 0;
+        int familyMask = 1 << family;
+        Node node = root;
+        for (int i = word.length() - 1; i >= 0; i--) {
+            node = node.getChild(word.charAt(i));
+            if (node == null) {
+                break;
+            }
+            if ((node.families & familyMask) != 0) {
+                lengths |= 1L << (word.length() - i);
+            }
+        }
+        return lengths;
+    }
+
+    /**
+     * Returns the length of the longest suffix in the given bitmask of suffix lengths.
+     *
+     * @param lengths Bitmask of suffix lengths returned by matchLengths.
+     * @return Length of the longest suffix, -1 if the bitmask is empty.
+     */
+    public static int longest(long lengths) {
+        return 63 - Long.numberOfLeadingZeros(lengths);
+    }
+
+    /**
+     * Checks if the given word as a whole is a suffix of the given family.
+     *
+     * @param word   Word to be checked.
+     * @param family Family of the suffixes.
+     * @return True if the word is one of the suffixes of the family.
+     */
+    public boolean contains(String word, int family) {
+        return word.length() <= MAXIMUM_SUFFIX_LENGTH && (matchLengths(word, family) & (1L << word.length())) != 0;
+    }
+}
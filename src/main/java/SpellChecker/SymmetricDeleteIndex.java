@@ -0,0 +1,296 @@
+package SpellChecker;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+
+public class SymmetricDeleteIndex {
+    private static final int MAGIC = 0x53594d44;
+    private static final int VERSION = 1;
+    private final int maxDistance;
+    private final int prefixLength;
+    private final String[] words;
+    private final long[] keys;
+    private final int[] offsets;
+    private final int[] postings;
+
+    /**
+     * A constructor of {@link SymmetricDeleteIndex} class which builds the deletion neighbourhood index of the given
+     * words. For every word, all strings obtained by deleting at most maxDistance characters from the first
+     * prefixLength characters of the word are generated, and the word is stored in the posting list of the hash of
+     * each such string. Two words within maxDistance edits of each other always share at least one of these deletes.
+     *
+     * @param words        Words to be indexed.
+     * @param maxDistance  Maximum edit distance supported by the index, 1 or 2.
+     * @param prefixLength Number of leading characters of each word used for the deletes.
+     */
+    public SymmetricDeleteIndex(Collection<String> words, int maxDistance, int prefixLength) {
+        this.maxDistance = maxDistance;
+        this.prefixLength = prefixLength;
+        this.words = words.toArray(new String[0]);
+        int idBits = idBits(this.words.length);
+        long idMask = (1L << idBits) - 1;
+        long[] entries = new long[64];
+        int entryCount = 0;
+        HashSet<Long> deletes = new HashSet<>();
+        for (int id = 0; id < this.words.length; id++) {
+            deletes.clear();
+            addDeletes(prefix(this.words[id]), maxDistance, deletes);
+            for (long hash : deletes) {
+                if (entryCount == entries.length) {
+                    entries = Arrays.copyOf(entries, 2 * entries.length);
+                }
+                entries[entryCount++] = (hash & ~idMask) | id;
+            }
+        }
+        Arrays.sort(entries, 0, entryCount);
+        int keyCount = 0;
+        for (int i = 0; i < entryCount; i++) {
+            if (i == 0 || (entries[i] & ~idMask) != (entries[i - 1] & ~idMask)) {
+                keyCount++;
+            }
+        }
+        keys = new long[keyCount];
+        offsets = new int[keyCount + 1];
+        postings = new int[entryCount];
+        int keyIndex = -1;
+        for (int i = 0; i < entryCount; i++) {
+            if (i == 0 || (entries[i] & ~idMask) != (entries[i - 1] & ~idMask)) {
+                keyIndex++;
+                keys[keyIndex] = entries[i] & ~idMask;
+                offsets[keyIndex] = i;
+            }
+            postings[i] = (int) (entries[i] & idMask);
+        }
+        offsets[keyCount] = entryCount;
+    }
+
+    /**
+     * Another constructor of {@link SymmetricDeleteIndex} class which builds the index of the words read from the
+     * given reader, one word per line, with a prefix length of 7.
+     *
+     * @param reader      Reader of the word list.
+     * @param maxDistance Maximum edit distance supported by the index, 1 or 2.
+     * @throws IOException If the word list can not be read.
+     */
+    public SymmetricDeleteIndex(BufferedReader reader, int maxDistance) throws IOException {
+        this(readWords(reader), maxDistance, 7);
+    }
+
+    /**
+     * A constructor of {@link SymmetricDeleteIndex} class which loads an index saved with the save method.
+     *
+     * @param inputStream Input stream of the saved index.
+     * @throws IOException If the index can not be read or is not a saved {@link SymmetricDeleteIndex}.
+     */
+    public SymmetricDeleteIndex(InputStream inputStream) throws IOException {
+        DataInputStream input = new DataInputStream(new BufferedInputStream(inputStream, 1 << 16));
+        if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+            throw new IOException("Not a symmetric delete index");
+        }
+        maxDistance = input.readInt();
+        prefixLength = input.readInt();
+        words = new String[input.readInt()];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = input.readUTF();
+        }
+        keys = new long[input.readInt()];
+        offsets = new int[keys.length + 1];
+        postings = new int[input.readInt()];
+        byte[] chunk = new byte[1 << 16];
+        for (int i = 0; i < keys.length; ) {
+            int count = Math.min(chunk.length / 8, keys.length - i);
+            input.readFully(chunk, 0, 8 * count);
+            ByteBuffer.wrap(chunk, 0, 8 * count).asLongBuffer().get(keys, i, count);
+            i += count;
+        }
+        readInts(input, chunk, offsets);
+        readInts(input, chunk, postings);
+    }
+
+    /**
+     * Reads the given array from the input in chunks.
+     *
+     * @param input Input stream of the saved index.
+     * @param chunk Buffer used for reading.
+     * @param array Array to be filled.
+     * @throws IOException If the array can not be read.
+     */
+    private static void readInts(DataInputStream input, byte[] chunk, int[] array) throws IOException {
+        for (int i = 0; i < array.length; ) {
+            int count = Math.min(chunk.length / 4, array.length - i);
+            input.readFully(chunk, 0, 4 * count);
+            ByteBuffer.wrap(chunk, 0, 4 * count).asIntBuffer().get(array, i, count);
+            i += count;
+        }
+    }
+
+    /**
+     * Saves the index to the given output stream in a binary form, which can be loaded much faster than the index
+     * can be built.
+     *
+     * @param outputStream Output stream to write the index to.
+     * @throws IOException If the index can not be written.
+     */
+    public void save(OutputStream outputStream) throws IOException {
+        DataOutputStream output = new DataOutputStream(new BufferedOutputStream(outputStream, 1 << 16));
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeInt(maxDistance);
+        output.writeInt(prefixLength);
+        output.writeInt(words.length);
+        for (String word : words) {
+            output.writeUTF(word);
+        }
+        output.writeInt(keys.length);
+        output.writeInt(postings.length);
+        for (long key : keys) {
+            output.writeLong(key);
+        }
+        for (int offset : offsets) {
+            output.writeInt(offset);
+        }
+        for (int posting : postings) {
+            output.writeInt(posting);
+        }
+        output.flush();
+    }
+
+    /**
+     * Returns the words in the index whose restricted Damerau-Levenshtein distance to the given word is at most the
+     * given distance. The deletes of the given word are looked up in the index, and each word found is verified with
+     * an {@link EditDistancePattern} of the word, since the index stores only hashes of the deletes. The words are
+     * returned in increasing order of their distance.
+     *
+     * @param word     Word to be searched.
+     * @param distance Maximum edit distance, can not be larger than the maximum distance of the index.
+     * @return {@link ArrayList} of the words within the given distance, excluding the word itself.
+     * @throws IllegalArgumentException If the distance is larger than the maximum distance of the index, since the
+     *                                  words reachable only by more deletes than the index stores would be missed.
+     */
+    public ArrayList<String> lookup(String word, int distance) {
+        if (distance > maxDistance) {
+            throw new IllegalArgumentException("Distance " + distance + " is larger than the maximum distance " + maxDistance + " of the index");
+        }
+        long idMask = (1L << idBits(words.length)) - 1;
+        HashSet<Long> deletes = new HashSet<>();
+        addDeletes(prefix(word), distance, deletes);
+        HashSet<Integer> visited = new HashSet<>();
+        EditDistancePattern pattern = new EditDistancePattern(word);
+        ArrayList<ArrayList<String>> found = new ArrayList<>();
+        for (int i = 0; i <= distance; i++) {
+            found.add(new ArrayList<>());
+        }
+        for (long hash : deletes) {
+            int keyIndex = Arrays.binarySearch(keys, hash & ~idMask);
+            if (keyIndex >= 0) {
+                for (int i = offsets[keyIndex]; i < offsets[keyIndex + 1]; i++) {
+                    if (visited.add(postings[i])) {
+                        String candidate = words[postings[i]];
+                        int candidateDistance = pattern.distance(candidate, distance);
+                        if (candidateDistance > 0 && candidateDistance <= distance) {
+                            found.get(candidateDistance).add(candidate);
+                        }
+                    }
+                }
+            }
+        }
+        ArrayList<String> result = new ArrayList<>();
+        for (ArrayList<String> candidates : found) {
+            result.addAll(candidates);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the maximum edit distance supported by the index.
+     *
+     * @return Maximum edit distance of the index.
+     */
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+
+    /**
+     * Returns the number of indexed words.
+     *
+     * @return Number of words in the index.
+     */
+    public int size() {
+        return words.length;
+    }
+
+    /**
+     * Returns the first prefixLength characters of the given word.
+     *
+     * @param word Word whose prefix will be returned.
+     * @return Prefix of the word.
+     */
+    private String prefix(String word) {
+        return word.length() > prefixLength ? word.substring(0, prefixLength) : word;
+    }
+
+    /**
+     * Adds the hashes of the given string and of all strings obtained by deleting at most distance characters from
+     * it to the given set.
+     *
+     * @param word     String whose deletes will be generated.
+     * @param distance Maximum number of deleted characters.
+     * @param deletes  Set of the hashes of the deletes.
+     */
+    private static void addDeletes(String word, int distance, HashSet<Long> deletes) {
+        if (deletes.add(hash(word)) && distance > 0) {
+            for (int i = 0; i < word.length(); i++) {
+                addDeletes(word.substring(0, i) + word.substring(i + 1), distance - 1, deletes);
+            }
+        }
+    }
+
+    /**
+     * Returns a 64 bit hash of the given string.
+     *
+     * @param word String to be hashed.
+     * @return Hash of the string.
+     */
+    private static long hash(String word) {
+        long hash = word.length();
+        for (int i = 0; i < word.length(); i++) {
+            hash = (hash + word.charAt(i)) * 0x9e3779b97f4a7c15L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * Returns the number of low bits of a key used to store a word id.
+     *
+     * @param wordCount Number of words in the index.
+     * @return Number of bits needed to store a word id.
+     */
+    private static int idBits(int wordCount) {
+        return Math.max(1, 32 - Integer.numberOfLeadingZeros(Math.max(1, wordCount - 1)));
+    }
+
+    /**
+     * Reads one word per line from the given reader.
+     *
+     * @param reader Reader of the word list.
+     * @return {@link ArrayList} of the words.
+     * @throws IOException If the word list can not be read.
+     */
+    private static ArrayList<String> readWords(BufferedReader reader) throws IOException {
+        ArrayList<String> words = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.isEmpty()) {
+                words.add(line);
+            }
+        }
+        return words;
+    }
+}
@@ -0,0 +1,175 @@
+package SpellChecker;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+public class TokenClassifier {
+    public static final int NUMERIC = 1;
+    public static final int NUMBER_WITH_UNIT = 2;
+    public static final int LETTERS = 4;
+    public static final int DASH = 8;
+    public static final int APOSTROPHE = 16;
+    public static final int DE_DA = 32;
+    public static final int HAS_DIGIT = 64;
+    public static final int HAS_LETTER = 128;
+    private static final HashSet<String> shortcuts = new HashSet<>(Arrays.asList("cc", "cm2", "cm", "gb", "ghz", "gr", "gram", "hz", "inc", "inch", "inç",
+            "kg", "kw", "kva", "litre", "lt", "m2", "m3", "mah", "mb", "metre", "mg", "mhz", "ml", "mm", "mp", "ms", "kb", "mb", "gb", "tb", "pb", "kbps",
+            "mt", "mv", "tb", "tl", "va", "volt", "watt", "ah", "hp", "oz", "rpm", "dpi", "ppm", "ohm", "kwh", "kcal", "kbit", "mbit", "gbit", "bit", "byte",
+            "mbps", "gbps", "cm3", "mm2", "mm3", "khz", "ft", "db", "sn"));
+    private static final HashSet<String> conditionalShortcuts = new HashSet<>(Arrays.asList("g", "v", "m", "l", "w", "s"));
+
+    /**
+     * Computes the bitmask of the classes of the given token in a single pass over its characters. The classes are
+     * <ul>
+     *     <li>NUMERIC: the token consists of the digits 0-9 only.</li>
+     *     <li>NUMBER_WITH_UNIT: the token is a number followed by a unit, such as 5kg or 2,5mm. The number has no leading
+     *     zeros and may have a fraction after a dot or a comma. The units g, v, m, l, w and s are accepted only after a
+     *     number whose integer part has at most three digits.</li>
+     *     <li>LETTERS: the token consists of the English and Turkish letters only.</li>
+     *     <li>DASH: the token is a hyphen, an en-dash or an em-dash.</li>
+     *     <li>APOSTROPHE: the token contains an apostrophe.</li>
+     *     <li>DE_DA: the token ends with de or da.</li>
+     *     <li>HAS_DIGIT and HAS_LETTER: the token contains a digit or a letter, and no line terminator.</li>
+     * </ul>
+     *
+     * @param token Token to be classified.
+     * @return Bitmask of the classes of the token.
+     */
+    public static int classify(String token) {
+        int length = token.length();
+        if (length == 0) {
+            return 0;
+        }
+        boolean onlyDigits = true, onlyLetters = true, digit = false, letter = false, lineTerminator = false;
+        int tokenClass = 0;
+        for (int i = 0; i < length; i++) {
+            char character = token.charAt(i);
+            if (isDigit(character)) {
+                digit = true;
+                onlyLetters = false;
+            } else {
+                onlyDigits = false;
+                if (isLetter(character)) {
+                    letter = true;
+                } else {
+                    onlyLetters = false;
+                    if (character == '\'') {
+                        tokenClass |= APOSTROPHE;
+                    } else if (isLineTerminator(character)) {
+                        lineTerminator = true;
+                    }
+                }
+            }
+        }
+        if (onlyDigits) {
+            tokenClass |= NUMERIC;
+        }
+        if (onlyLetters) {
+            tokenClass |= LETTERS;
+        }
+        if (!lineTerminator) {
+            if (digit) {
+                tokenClass |= HAS_DIGIT;
+            }
+            if (letter) {
+                tokenClass |= HAS_LETTER;
+            }
+        }
+        if (length == 1 && (token.charAt(0) == '-' || token.charAt(0) == '–' || token.charAt(0) == '—')) {
+            tokenClass |= DASH;
+        }
+        if (token.endsWith("da") || token.endsWith("de")) {
+            tokenClass |= DE_DA;
+        }
+        if (digit && !onlyDigits && isNumberWithUnit(token)) {
+            tokenClass |= NUMBER_WITH_UNIT;
+        }
+        return tokenClass;
+    }
+
+    /**
+     * Checks if the given token is a number followed by a unit. The integer part of the number is either 0 or starts
+     * with a nonzero digit, and it may be followed by a dot or a comma and the digits of the fraction. The rest of the
+     * token must be a unit, and the units which may also be words, such as m or s, must follow a number of at most
+     * three integer digits.
+     *
+     * @param token Token to check.
+     * @return True if the token is a number followed by a unit.
+     */
+    private static boolean isNumberWithUnit(String token) {
+        int length = token.length();
+        int i = 0;
+        if (token.charAt(0) == '0') {
+            i = 1;
+        } else {
+            while (i < length && isDigit(token.charAt(i))) {
+                i++;
+            }
+            if (i == 0) {
+                return false;
+            }
+        }
+        int integerDigits = i;
+        if (i < length && (token.charAt(i) == '.' || token.charAt(i) == ',')) {
+            i++;
+            while (i < length && isDigit(token.charAt(i))) {
+                i++;
+            }
+        }
+        if (i == length) {
+            return false;
+        }
+        String unit = token.substring(i);
+        return shortcuts.contains(unit) || (integerDigits <= 3 && conditionalShortcuts.contains(unit));
+    }
+
+    /**
+     * Checks if the given character is one of the digits 0-9.
+     *
+     * @param character Character to check.
+     * @return True if the character is a digit.
+     */
+    private static boolean isDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+
+    /**
+     * Checks if the given character is an English letter or one of the Turkish letters ç, ö, ğ, ü, ş, ı and their
+     * upper case forms.
+     *
+     * @param character Character to check.
+     * @return True if the character is a letter.
+     */
+    private static boolean isLetter(char character) {
+        if ((character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z')) {
+            return true;
+        }
+        switch (character) {
+            case 'ç':
+            case 'ö':
+            case 'ğ':
+            case 'ü':
+            case 'ş':
+            case 'ı':
+            case 'Ç':
+            case 'Ö':
+            case 'Ğ':
+            case 'Ü':
+            case 'Ş':
+            case 'İ':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Checks if the given character ends a line, so that it is not matched by a dot in a regular expression.
+     *
+     * @param character Character to check.
+     * @return True if the character is a line terminator.
+     */
+    private static boolean isLineTerminator(char character) {
+        return character == '\n' || character == '\r' || character == '\u0085' || character == '\u2028' || character == '\u2029';
+    }
+}
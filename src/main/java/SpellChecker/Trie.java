@@ -1,7 +1,5 @@
 package SpellChecker;
 
-import java.util.Locale;
-
 public class Trie {
     private final TrieNode rootNode;
 
@@ -36,7 +34,7 @@ public class Trie {
      * @return true if the word is in the Trie, false otherwise
      */
     public boolean search(String word) {
-        TrieNode node = getTrieNode(word.toLowerCase(new Locale("tr", "TR")));
+        TrieNode node = getTrieNodeIgnoreCase(word);
         if (node == null) {
             return false;
         } else {
@@ -51,7 +49,7 @@ public class Trie {
      * @return true if the prefix exists, false otherwise
      */
     public boolean startsWith(String prefix) {
-        return getTrieNode(prefix.toLowerCase(new Locale("tr", "TR"))) != null;
+        return getTrieNodeIgnoreCase(prefix) != null;
     }
 
     /**
@@ -71,4 +69,19 @@ public class Trie {
         }
         return currentNode;
     }
+
+    /**
+     * Returns the TrieNode corresponding to the last character of a given word, each character of the word being
+     * converted to lower case with the Turkish rules while it is read.
+     *
+     * @param word The word to be searched for
+     * @return The TrieNode corresponding to the last character of the word
+     */
+    private TrieNode getTrieNodeIgnoreCase(String word) {
+        TrieNode currentNode = rootNode;
+        for (int i = 0; i < word.length() && currentNode != null; i++) {
+            currentNode = currentNode.getChild(LexiconAutomaton.toLowerCase(word.charAt(i)));
+        }
+        return currentNode;
+    }
 }
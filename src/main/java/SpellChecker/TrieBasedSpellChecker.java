@@ -6,18 +6,21 @@ import Dictionary.Word;
 import MorphologicalAnalysis.FsmMorphologicalAnalyzer;
 import Ngram.NGram;
 import java.io.*;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.PriorityQueue;
 
 public class TrieBasedSpellChecker extends NGramSpellChecker {
 
-    private ArrayList<String> generatedWords;
-    private Trie trie;
+    private LexiconAutomaton lexicon;
+    private MorphologicalLexicon morphologicalLexicon;
 
     /**
      * A constructor of {@link TrieBasedSpellChecker} class which takes an {@link FsmMorphologicalAnalyzer}, an {@link NGram}
      * and a {@link SpellCheckerParameter} as inputs. Then, calls its super class {@link NGramSpellChecker} with given inputs.
-     * Finally, it initializes the generatedWords and trie variables.
+     * The lexicon of generated words is loaded by the loadDictionaries method.
      *
      * @param fsm       {@link FsmMorphologicalAnalyzer} type input.
      * @param nGram     {@link NGram} type input.
@@ -25,168 +28,358 @@ public class TrieBasedSpellChecker extends NGramSpellChecker {
      */
     public TrieBasedSpellChecker(FsmMorphologicalAnalyzer fsm, NGram<String> nGram, SpellCheckerParameter parameter) {
         super(fsm, nGram, parameter);
-        prepareTrie();
+    }
+
+    /**
+     * Another constructor of {@link TrieBasedSpellChecker} class which takes an {@link FsmMorphologicalAnalyzer}, a
+     * {@link BigramModel} and a {@link SpellCheckerParameter} as inputs. Then, calls its super class
+     * {@link NGramSpellChecker} with given inputs.
+     * The lexicon of generated words is loaded by the loadDictionaries method.
+     *
+     * @param fsm         {@link FsmMorphologicalAnalyzer} type input.
+     * @param bigramModel {@link BigramModel} type input.
+     * @param parameter   {@link SpellCheckerParameter} type input.
+     */
+    public TrieBasedSpellChecker(FsmMorphologicalAnalyzer fsm, BigramModel bigramModel, SpellCheckerParameter parameter) {
+        super(fsm, bigramModel, parameter);
     }
 
     /**
      * Another constructor of {@link TrieBasedSpellChecker} class which takes an {@link FsmMorphologicalAnalyzer} and
-     * an {@link NGram} as inputs. Then, it calls its super class {@link NGramSpellChecker} with given inputs and
-     * initializes the generatedWords and trie variables.
+     * an {@link NGram} as inputs. Then, it calls its super class {@link NGramSpellChecker} with given inputs, which
+     * also loads the lexicon of generated words.
      *
      * @param fsm   {@link FsmMorphologicalAnalyzer} type input.
      * @param nGram {@link NGram} type input.
      */
     public TrieBasedSpellChecker(FsmMorphologicalAnalyzer fsm, NGram<String> nGram) {
         super(fsm, nGram);
-        prepareTrie();
     }
 
     /**
      * {@inheritDoc}
-     * This method also loads generated words from a file.
+     * This method also loads the lexicon of generated words. If a lexicon image file is given in the parameter, the
+     * image is memory mapped. Otherwise, the words in generated_words.txt are inserted into a {@link Trie}, which is
+     * then converted to a {@link LexiconImage}, so neither the word list nor the trie nodes stay on the heap. If the
+     * dawg lexicon parameter is set, the sorted words are minimized by the {@link DawgBuilder} instead. If the
+     * morphological lexicon length is set, no word list is read, and a {@link MorphologicalLexicon} expands the
+     * surface forms of the morphological analyzer on demand; each search then walks a new session of it. The
+     * diacritic restorer walks the loaded lexicon, so only the diacritic variants whose prefixes are in the lexicon
+     * are enumerated.
+     *
+     * @see FsmMorphologicalAnalyzer#generateAllParses(TxtWord, int)
      */
     @Override
     protected void loadDictionaries() {
         super.loadDictionaries();
-        String line;
-        generatedWords = new ArrayList<>();
         BufferedReader trieReader;
         try {
-            trieReader = getReader("generated_words.txt");
-            while ((line = trieReader.readLine()) != null) {
-                generatedWords.add(line);
+            if (parameter.getLexiconImageFile() != null) {
+                lexicon = LexiconImage.map(parameter.getLexiconImageFile());
+            } else if (parameter.getMorphologicalLexiconLength() > 0) {
+                morphologicalLexicon = new MorphologicalLexicon(analysisCache, parameter.getMorphologicalLexiconLength(), parameter.getMorphologicalLexiconCacheSize());
+            } else {
+                trieReader = getReader("generated_words.txt");
+                if (parameter.isDawgLexicon()) {
+                    lexicon = DawgBuilder.build(trieReader);
+                } else {
+                    lexicon = LexiconImage.build(trieReader);
+                }
+                trieReader.close();
             }
-            trieReader.close();
         } catch (IOException ignored) {
         }
     }
 
     /**
-     * Populates a Trie data structure with a set of strings generated by the morphological analyzer.
+     * {@inheritDoc}
+     * The diacritic restorer of this class walks the lexicon of generated words, which is loaded after the restorer is
+     * created, so the lexicon is only read when a word is restored.
      *
-     * @see Trie
-     * @see FsmMorphologicalAnalyzer#generateAllParses(TxtWord, int)
+     * @return {@link DiacriticRestorer} walking the lexicon of the spell checker.
      */
-    private void prepareTrie() {
-        trie = new Trie();
-        for (String word : generatedWords) {
-            trie.insert(word);
+    @Override
+    protected DiacriticRestorer createDiacriticRestorer() {
+        return new DiacriticRestorer(this::searchLexicon);
+    }
+
+    /**
+     * Returns the lexicon to be walked by a single search. The states of a {@link MorphologicalLexicon} only live as
+     * long as the search using them, so a new session is started for each search; the other lexicons are returned as
+     * they are.
+     *
+     * @return the lexicon automaton to be used by a search
+     */
+    private LexiconAutomaton searchLexicon() {
+        if (morphologicalLexicon != null) {
+            return morphologicalLexicon.newSession();
         }
+        return lexicon;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The candidateList method of this class is not the edit candidate generation, since the candidates are searched in the lexicon, not generated as one character edits.
+     *
+     * @return false
+     */
+    @Override
+    protected boolean hasOnlyEditCandidates() {
+        return false;
     }
 
     /**
-     * Checks if the trie object contains the candidate.
-     * If it does, it compares the penalty of the candidate in the results with the penalty of the candidate variable.
-     * If the current penalty of the candidate in the results is less than or equal to the current penalty
-     * of the candidate variable, it removes the first element of the candidates ArrayDeque.
-     * If not, it adds the candidate variable to the results ArrayList and removes the first element.
-     * If the trie object does not contain the candidate, it checks if the current penalty and the current
-     * index of the candidate variable and if they are not at the limit,
-     * it moves the index one character to the right and generates new candidates.
+     * Searches the candidates of the word in increasing order of their penalties, starting from the word itself.
+     * The candidate with the lowest penalty is removed from the priority queue. If the lexicon contains it, it is added
+     * to the results, unless a candidate with the same name was already found, which can not have a higher penalty.
+     * If the lexicon does not contain the candidate and neither its current penalty nor its current index is at the
+     * limit, it moves the index one character to the right and generates new candidates.
+     * A search state, that is, a candidate name together with its current index, is expanded at most once, since the
+     * first time it is removed from the queue it has its lowest penalty. The search stops early when the candidate
+     * limit or the expansion limit of the parameter is reached.
+     * Each candidate carries the lexicon state of its prefix up to its current index, so checking a candidate only
+     * reads the characters after its current index, and moving the index reads a single character.
+     * If the Levenshtein automaton parameter is set, the candidates are found by the automatonCandidateList method
+     * instead.
      *
      * @param word     the word to search for candidates for
      * @param sentence the sentence containing the word
-     * @return an ArrayList of Candidate objects representing the potential candidates
+     * @return an ArrayList of Candidate objects representing the potential candidates, in increasing order of penalty
      */
     @Override
     protected ArrayList<Candidate> candidateList(Word word, Sentence sentence) {
+        if (parameter.isLevenshteinAutomaton()) {
+            return automatonCandidateList(word);
+        }
+        LexiconAutomaton lexicon = searchLexicon();
         TrieCandidate candidate;
-        ArrayDeque<TrieCandidate> candidates = new ArrayDeque<>();
-        ArrayList<TrieCandidate> results = new ArrayList<>();
-        candidates.addFirst(new TrieCandidate(word.getName(), -1, 0));
+        PriorityQueue<TrieCandidate> candidates = new PriorityQueue<>(Comparator.comparingDouble(TrieCandidate::getCurrentPenalty));
+        HashSet<String> visited = new HashSet<>();
+        LinkedHashMap<String, TrieCandidate> results = new LinkedHashMap<>();
+        candidates.add(new TrieCandidate(word.getName(), -1, 0, lexicon.getRootState()));
         String candidateName;
         double penaltyLimit = Math.min(word.charCount() / 2.0, 3.0);
+        int candidateLimit = parameter.getTrieCandidateLimit();
+        int expansionLimit = parameter.getTrieExpansionLimit();
+        int expansions = 0;
         while (!candidates.isEmpty()) {
-            candidate = candidates.peekFirst();
+            candidate = candidates.poll();
             candidateName = candidate.getName();
-            if (trie.search(candidateName)) {
-                if ((results.contains(candidate)) && (results.get(results.indexOf(candidate)).getCurrentPenalty() <= candidate.getCurrentPenalty())) {
-                    candidates.removeFirst();
-                } else {
-                    results.add(candidates.removeFirst());
+            if (!visited.add(searchState(candidate))) {
+                continue;
+            }
+            if (isWord(lexicon, candidate)) {
+                if (!results.containsKey(candidateName)) {
+                    results.put(candidateName, candidate);
+                    if (candidateLimit > 0 && results.size() >= candidateLimit) {
+                        break;
+                    }
                 }
             } else {
-                if (candidate.getCurrentPenalty() > penaltyLimit - 1 || candidate.getCurrentIndex() >= candidateName.length() - 1) {
-                    candidates.removeFirst();
-                } else {
-                    candidate = candidates.removeFirst();
-                    candidate.nextIndex();
-                    candidates.addLast(new TrieCandidate(candidate.getName(), candidate.getCurrentIndex(), candidate.getCurrentPenalty()));
-                    ArrayList<TrieCandidate> newCandidates = generateTrieCandidates(candidate);
-                    candidates.addAll(newCandidates);
+                if (candidate.getCurrentPenalty() <= penaltyLimit - 1 && candidate.getCurrentIndex() < candidateName.length() - 1) {
+                    if (expansionLimit > 0 && expansions >= expansionLimit) {
+                        break;
+                    }
+                    expansions++;
+                    int prefixState = candidate.getCurrentState();
+                    candidate.nextIndex(lexicon);
+                    candidates.add(new TrieCandidate(candidate.getName(), candidate.getCurrentIndex(), candidate.getCurrentPenalty(), candidate.getCurrentState()));
+                    for (TrieCandidate newCandidate : generateTrieCandidates(lexicon, candidate, prefixState)) {
+                        if (!visited.contains(searchState(newCandidate))) {
+                            candidates.add(newCandidate);
+                        }
+                    }
                 }
             }
         }
-        return new ArrayList<>(results);
+        return new ArrayList<>(results.values());
+    }
+
+    /**
+     * Returns the key of the search state of the candidate, which consists of its name and its current index.
+     *
+     * @param candidate the candidate whose search state will be returned
+     * @return the key of the search state of the candidate
+     */
+    private String searchState(TrieCandidate candidate) {
+        return candidate.getCurrentIndex() + " " + candidate.getName();
+    }
+
+    /**
+     * Checks if the lexicon contains the candidate, ignoring its case. The search continues from the current state of
+     * the candidate, so only the characters after its current index are read.
+     *
+     * @param lexicon   the lexicon walked by the search
+     * @param candidate the candidate to be searched for
+     * @return true if the candidate is in the lexicon, false otherwise
+     */
+    private boolean isWord(LexiconAutomaton lexicon, TrieCandidate candidate) {
+        int state = candidate.getCurrentState();
+        if (state == -1) {
+            return false;
+        }
+        state = lexicon.getStateIgnoreCase(state, candidate.getName(), candidate.getCurrentIndex() + 1);
+        return state != -1 && lexicon.isAcceptingState(state);
     }
 
     /**
      * Generates a set of candidates based on a given TrieCandidate.
      * The generated candidates are created by applying a set of operations to
      * the input TrieCandidate. The possible operations are:
-     * De-asciification: replacing certain ASCII characters with their non-ASCII counterparts.
+     * De-asciification: replacing certain ASCII characters with their non-ASCII counterparts, as restored by the
+     * {@link DiacriticRestorer}, which costs 0.2 instead of 1.
      * Substitution: replacing a single character with another character.
      * Insertion: adding a single character to the string.
      * Deletion: removing a single character from the string.
      * Transposition: swapping the positions of two adjacent characters in the string.
+     * The lexicon states of the new candidates are derived from the state of the prefix before the current index, so
+     * the lexicon is never searched from its root state.
      *
-     * @param candidate the input TrieCandidate
+     * @param lexicon     the lexicon walked by the search
+     * @param candidate   the input TrieCandidate
+     * @param prefixState the lexicon state of the prefix of the candidate before its current index
      * @return a list of candidate strings, each contained in a TrieCandidate object
      */
-    private ArrayList <TrieCandidate> generateTrieCandidates(TrieCandidate candidate) {
+    private ArrayList <TrieCandidate> generateTrieCandidates(LexiconAutomaton lexicon, TrieCandidate candidate, int prefixState) {
         ArrayList<TrieCandidate> candidates = new ArrayList<>();
         String currentName = candidate.getName();
         int currentIndex = candidate.getCurrentIndex();
         double currentPenalty = candidate.getCurrentPenalty();
-        char[] deasciified = currentName.toCharArray();
-        String letters;
-        TrieNode currentNode = trie.getTrieNode(currentName.substring(0, currentIndex));
-        if (currentNode == null) {
+        int currentState = candidate.getCurrentState();
+        if (prefixState == -1) {
             return candidates;
         }
-        letters = currentNode.childrenToString();
-        switch (currentName.charAt(currentIndex)) {
-            case 'c':
-                deasciified[currentIndex] = 'ç';
-                break;
-            case 'g':
-                deasciified[currentIndex] = 'ğ';
-                break;
-            case 'i':
-                deasciified[currentIndex] = 'ı';
-                break;
-            case 's':
-                deasciified[currentIndex] = 'ş';
-                break;
-            case 'o':
-                deasciified[currentIndex] = 'ö';
-                break;
-            case 'u':
-                deasciified[currentIndex] = 'ü';
-                break;
+        char deasciified = DiacriticRestorer.restore(currentName.charAt(currentIndex));
+        if (deasciified != currentName.charAt(currentIndex)) {
+            int deasciifiedState = lexicon.getNextState(prefixState, deasciified);
+            if (deasciifiedState != -1) {
+                String deasciifiedWord = currentName.substring(0, currentIndex) + deasciified + currentName.substring(currentIndex + 1);
+                candidates.add(new TrieCandidate(deasciifiedWord, currentIndex, currentPenalty + 0.2, deasciifiedState));
+            }
         }
-        String deasciifiedWord = new String(deasciified);
-        if (!deasciifiedWord.equals(currentName) && trie.startsWith(deasciifiedWord.substring(0, currentIndex + 1))) {
-            candidates.add(new TrieCandidate(deasciifiedWord, currentIndex, currentPenalty + 0.2));
-        }
-        for (int j = 0; j < letters.length(); j++) {
-            String replaced = currentName.substring(0, currentIndex) + letters.charAt(j) + currentName.substring(currentIndex + 1);
-            candidates.add(new TrieCandidate(replaced, currentIndex, currentPenalty + 1));
-            String added = currentName.substring(0, currentIndex) + letters.charAt(j) + currentName.substring(currentIndex);
-            candidates.add(new TrieCandidate(added, currentIndex, currentPenalty + 1));
-            String addedLast = currentName + letters.charAt(j);
-            if (currentIndex == currentName.length() - 1 && trie.startsWith(addedLast)) {
-                candidates.add(new TrieCandidate(addedLast, currentIndex, currentPenalty + 1));
+        for (int j = 0; j < lexicon.getTransitionCount(prefixState); j++) {
+            char letter = lexicon.getTransitionCharacter(prefixState, j);
+            int letterState = lexicon.getTransitionTarget(prefixState, j);
+            String replaced = currentName.substring(0, currentIndex) + letter + currentName.substring(currentIndex + 1);
+            candidates.add(new TrieCandidate(replaced, currentIndex, currentPenalty + 1, letterState));
+            String added = currentName.substring(0, currentIndex) + letter + currentName.substring(currentIndex);
+            candidates.add(new TrieCandidate(added, currentIndex, currentPenalty + 1, letterState));
+            if (currentIndex == currentName.length() - 1 && currentState != -1 && lexicon.getNextState(currentState, letter) != -1) {
+                candidates.add(new TrieCandidate(currentName + letter, currentIndex, currentPenalty + 1, currentState));
             }
         }
         String deleted = currentName.substring(0, currentIndex) + currentName.substring(currentIndex + 1);
         if (deleted.length() > 1) {
-            candidates.add(new TrieCandidate(deleted, currentIndex - 1, currentPenalty + 1));
+            candidates.add(new TrieCandidate(deleted, currentIndex - 1, currentPenalty + 1, prefixState));
         }
-        if (currentIndex < currentName.length() - 1 && currentName.charAt(currentIndex) != currentName.charAt(currentIndex + 1) && trie.startsWith(currentName.substring(0, currentIndex + 2))) {
+        if (currentIndex < currentName.length() - 1 && currentName.charAt(currentIndex) != currentName.charAt(currentIndex + 1) && currentState != -1
+                && lexicon.getNextState(currentState, LexiconAutomaton.toLowerCase(currentName.charAt(currentIndex + 1))) != -1) {
             String swapped = currentName.substring(0, currentIndex) + currentName.charAt(currentIndex + 1) + currentName.charAt(currentIndex) + currentName.substring(currentIndex + 2);
-            candidates.add(new TrieCandidate(swapped, currentIndex, currentPenalty + 1));
+            candidates.add(new TrieCandidate(swapped, currentIndex, currentPenalty + 1, lexicon.getNextState(prefixState, LexiconAutomaton.toLowerCase(currentName.charAt(currentIndex + 1)))));
+        }
+        return candidates;
+    }
+
+    /**
+     * Finds the candidates of the word by walking the lexicon once together with a weighted Damerau-Levenshtein
+     * automaton of the word. The automaton is simulated by a row of edit distances between the word and the current
+     * lexicon prefix; a row is computed from the previous two rows when a transition is taken. Insertion, deletion,
+     * substitution and transposition of adjacent characters cost 1, and the deasciification of a character costs 0.2,
+     * as in the generateTrieCandidates method. A subtree of the lexicon is pruned as soon as the minimum of its row
+     * exceeds the penalty limit, so no edited string is generated.
+     *
+     * @param word the word to search for candidates for
+     * @return an ArrayList of candidates within the penalty limit, in increasing order of penalty
+     */
+    private ArrayList<Candidate> automatonCandidateList(Word word) {
+        LexiconAutomaton lexicon = searchLexicon();
+        String name = word.getName();
+        char[] characters = new char[name.length()];
+        for (int i = 0; i < characters.length; i++) {
+            characters[i] = LexiconAutomaton.toLowerCase(name.charAt(i));
+        }
+        double penaltyLimit = Math.min(word.charCount() / 2.0, 3.0) + 1e-9;
+        int maxDepth = characters.length + (int) penaltyLimit;
+        double[][] rows = new double[maxDepth + 1][characters.length + 1];
+        for (int j = 0; j <= characters.length; j++) {
+            rows[0][j] = j;
+        }
+        char[] path = new char[maxDepth];
+        ArrayList<TrieCandidate> results = new ArrayList<>();
+        int[] expansions = {parameter.getTrieExpansionLimit() > 0 ? parameter.getTrieExpansionLimit() : Integer.MAX_VALUE};
+        if (rows[0][characters.length] <= penaltyLimit && lexicon.isAcceptingState(lexicon.getRootState())) {
+            results.add(new TrieCandidate("", -1, rows[0][characters.length], lexicon.getRootState()));
+        }
+        walkAutomaton(lexicon, lexicon.getRootState(), 0, characters, rows, path, penaltyLimit, expansions, results);
+        results.sort(Comparator.comparingDouble(TrieCandidate::getCurrentPenalty));
+        int candidateLimit = parameter.getTrieCandidateLimit();
+        ArrayList<Candidate> candidates = new ArrayList<>();
+        for (TrieCandidate result : results) {
+            if (candidateLimit > 0 && candidates.size() >= candidateLimit) {
+                break;
+            }
+            if (!name.isEmpty() && Character.isUpperCase(name.charAt(0))) {
+                candidates.add(new TrieCandidate(Word.toCapital(result.getName()), result.getCurrentIndex(), result.getCurrentPenalty(), result.getCurrentState()));
+            } else {
+                candidates.add(result);
+            }
         }
         return candidates;
     }
+
+    /**
+     * Visits the transitions of a lexicon state in the automaton walk. For each transition, the row of the extended
+     * prefix is computed; if the target state is accepting and the distance to the whole word is within the limit, the
+     * prefix is added to the results, and if the minimum of the row is within the limit, the target state is visited.
+     *
+     * @param lexicon      the lexicon walked by the search
+     * @param state        the lexicon state of the current prefix
+     * @param depth        the length of the current prefix
+     * @param characters   the lower case characters of the word
+     * @param rows         the rows of the prefixes of the current prefix, indexed by prefix length
+     * @param path         the characters of the current prefix
+     * @param penaltyLimit the maximum penalty of a candidate
+     * @param expansions   the remaining number of states that can be visited
+     * @param results      the candidates found
+     */
+    private void walkAutomaton(LexiconAutomaton lexicon, int state, int depth, char[] characters, double[][] rows, char[] path, double penaltyLimit, int[] expansions, ArrayList<TrieCandidate> results) {
+        if (depth + 1 >= rows.length || expansions[0] <= 0) {
+            return;
+        }
+        expansions[0]--;
+        double[] previous = rows[depth];
+        double[] current = rows[depth + 1];
+        for (int t = 0; t < lexicon.getTransitionCount(state); t++) {
+            char letter = lexicon.getTransitionCharacter(state, t);
+            current[0] = depth + 1;
+            double minimum = current[0];
+            for (int j = 1; j <= characters.length; j++) {
+                double substitution;
+                if (characters[j - 1] == letter) {
+                    substitution = 0;
+                } else {
+                    if (DiacriticRestorer.restore(characters[j - 1]) == letter) {
+                        substitution = 0.2;
+                    } else {
+                        substitution = 1;
+                    }
+                }
+                double distance = Math.min(previous[j - 1] + substitution, Math.min(previous[j] + 1, current[j - 1] + 1));
+                if (depth > 0 && j > 1 && characters[j - 1] == path[depth - 1] && characters[j - 2] == letter) {
+                    distance = Math.min(distance, rows[depth - 1][j - 2] + 1);
+                }
+                current[j] = distance;
+                minimum = Math.min(minimum, distance);
+            }
+            if (minimum > penaltyLimit) {
+                continue;
+            }
+            int target = lexicon.getTransitionTarget(state, t);
+            path[depth] = letter;
+            if (current[characters.length] <= penaltyLimit && lexicon.isAcceptingState(target)) {
+                results.add(new TrieCandidate(new String(path, 0, depth + 1), depth, current[characters.length], target));
+            }
+            walkAutomaton(lexicon, target, depth + 1, characters, rows, path, penaltyLimit, expansions, results);
+        }
+    }
 }
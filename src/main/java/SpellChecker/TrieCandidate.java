@@ -4,6 +4,7 @@ public class TrieCandidate extends Candidate {
 
     private int currentIndex;
     private final double currentPenalty;
+    private int currentState;
 
     /**
      * Constructs a TrieCandidate object.
@@ -11,11 +12,14 @@ public class TrieCandidate extends Candidate {
      * @param word the candidate word
      * @param currentIndex the current index of the candidate word
      * @param currentPenalty the currentPenalty associated with the candidate word
+     * @param currentState the lexicon state reached by reading the candidate word up to and including the current index,
+     *                     -1 if there is no such state
      */
-    public TrieCandidate(String word, int currentIndex, double currentPenalty) {
+    public TrieCandidate(String word, int currentIndex, double currentPenalty, int currentState) {
         super(word, Operator.TRIE_BASED);
         this.currentIndex = currentIndex;
         this.currentPenalty = currentPenalty;
+        this.currentState = currentState;
     }
 
     /**
@@ -37,9 +41,24 @@ public class TrieCandidate extends Candidate {
     }
 
     /**
-     * Increments the current index of the candidate word by 1.
+     * Returns the lexicon state reached by reading the candidate word up to and including the current index.
+     *
+     * @return the current lexicon state, -1 if the prefix of the candidate word is not in the lexicon
+     */
+    public int getCurrentState() {
+        return currentState;
+    }
+
+    /**
+     * Increments the current index of the candidate word by 1, and moves the current state of the candidate over the
+     * character at the new index, so the lexicon is never searched again from its root state.
+     *
+     * @param lexicon the lexicon the current state belongs to
      */
-    public void nextIndex() {
+    public void nextIndex(LexiconAutomaton lexicon) {
         currentIndex += 1;
+        if (currentState != -1) {
+            currentState = lexicon.getNextState(currentState, LexiconAutomaton.toLowerCase(getName().charAt(currentIndex)));
+        }
     }
 }
@@ -1,16 +1,21 @@
 package SpellChecker;
 
-import java.util.HashMap;
+import java.util.Arrays;
 
 public class TrieNode {
-    private final HashMap<Character, TrieNode> children;
+    private static final char[] NO_CHARACTERS = new char[0];
+    private static final TrieNode[] NO_CHILDREN = new TrieNode[0];
+    private char[] characters;
+    private TrieNode[] children;
     private boolean isWord;
 
     /**
-     * A constructor of {@link TrieNode} class which constructs a new TrieNode with an empty children HashMap
+     * A constructor of {@link TrieNode} class which constructs a new TrieNode without children. The children are
+     * stored in two parallel arrays sorted by character, which take much less memory than a map with boxed keys.
      */
     public TrieNode() {
-        this.children = new HashMap<>();
+        this.characters = NO_CHARACTERS;
+        this.children = NO_CHILDREN;
     }
 
     /**
@@ -18,31 +23,76 @@ public class TrieNode {
      * @param character The character value of the child TrieNode.
      * @return TrieNode with the given character value.
      */
-    public TrieNode getChild(Character character) {
-        return children.get(character);
+    public TrieNode getChild(char character) {
+        int index = Arrays.binarySearch(characters, character);
+        if (index < 0) {
+            return null;
+        }
+        return children[index];
     }
 
     /**
-     * Adds a child TrieNode to the current TrieNode instance.
+     * Adds a child TrieNode to the current TrieNode instance. If there is already a child with the same character, it
+     * is replaced.
      *
      * @param ch the character key of the child node to be added.
      * @param child the TrieNode object to be added as a child.
      */
-    public void addChild(Character ch, TrieNode child){
-        children.put(ch, child);
+    public void addChild(char ch, TrieNode child){
+        int index = Arrays.binarySearch(characters, ch);
+        if (index >= 0) {
+            children[index] = child;
+            return;
+        }
+        index = -index - 1;
+        char[] newCharacters = new char[characters.length + 1];
+        TrieNode[] newChildren = new TrieNode[children.length + 1];
+        System.arraycopy(characters, 0, newCharacters, 0, index);
+        System.arraycopy(children, 0, newChildren, 0, index);
+        newCharacters[index] = ch;
+        newChildren[index] = child;
+        System.arraycopy(characters, index, newCharacters, index + 1, characters.length - index);
+        System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+        characters = newCharacters;
+        children = newChildren;
     }
 
     /**
      * Returns a string representation of the keys of all child TrieNodes of the current TrieNode instance.
      *
-     * @return a string of characters representing the keys of all child TrieNodes.
+     * @return a string of characters representing the keys of all child TrieNodes, in increasing order.
      */
     public String childrenToString(){
-        StringBuilder result = new StringBuilder();
-        for (Character ch : children.keySet()){
-            result.append(ch);
-        }
-        return result.toString();
+        return new String(characters);
+    }
+
+    /**
+     * Returns the number of children of the current TrieNode instance.
+     *
+     * @return the number of child TrieNodes.
+     */
+    public int childCount() {
+        return characters.length;
+    }
+
+    /**
+     * Returns the character of the child TrieNode at the given position, children being sorted by character.
+     *
+     * @param index the position of the child.
+     * @return the character key of the child at the given position.
+     */
+    public char getCharacter(int index) {
+        return characters[index];
+    }
+
+    /**
+     * Returns the child TrieNode at the given position, children being sorted by character.
+     *
+     * @param index the position of the child.
+     * @return the child TrieNode at the given position.
+     */
+    public TrieNode getChildAt(int index) {
+        return children[index];
     }
 
     /**
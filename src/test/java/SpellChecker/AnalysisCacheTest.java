@@ -0,0 +1,72 @@
+package SpellChecker;
+
+import MorphologicalAnalysis.FsmMorphologicalAnalyzer;
+import MorphologicalAnalysis.FsmParseList;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class AnalysisCacheTest {
+    FsmMorphologicalAnalyzer fsm;
+
+    @Before
+    public void setUp() {
+        fsm = new FsmMorphologicalAnalyzer();
+    }
+
+    @Test
+    public void testNegativeCaching() {
+        AnalysisCache analysisCache = new AnalysisCache(fsm, 100);
+        FsmParseList parseList = analysisCache.morphologicalAnalysis("ktiapx");
+        assertEquals(0, parseList.size());
+        assertEquals(0, analysisCache.getHitCount());
+        assertEquals(1, analysisCache.getMissCount());
+        assertEquals(1, analysisCache.size());
+        assertSame(parseList, analysisCache.morphologicalAnalysis("ktiapx"));
+        assertFalse(analysisCache.hasParse("ktiapx"));
+        assertEquals(2, analysisCache.getHitCount());
+        assertEquals(1, analysisCache.getMissCount());
+    }
+
+    @Test
+    public void testHitsAndMisses() {
+        AnalysisCache analysisCache = new AnalysisCache(fsm, 100);
+        assertTrue(analysisCache.hasParse("kitap"));
+        assertTrue(analysisCache.hasParse("kitaplar"));
+        assertTrue(analysisCache.hasParse("kitap"));
+        assertEquals(fsm.morphologicalAnalysis("kitaplar").size(), analysisCache.morphologicalAnalysis("kitaplar").size());
+        assertEquals(2, analysisCache.getHitCount());
+        assertEquals(2, analysisCache.getMissCount());
+        analysisCache.clear();
+        assertEquals(0, analysisCache.size());
+        assertTrue(analysisCache.hasParse("kitap"));
+        assertEquals(3, analysisCache.getMissCount());
+    }
+
+    @Test
+    public void testNoCaching() {
+        AnalysisCache analysisCache = new AnalysisCache(fsm, 0);
+        assertTrue(analysisCache.hasParse("kitap"));
+        assertTrue(analysisCache.hasParse("kitap"));
+        assertEquals(0, analysisCache.size());
+        assertEquals(0, analysisCache.getHitCount());
+        assertEquals(2, analysisCache.getMissCount());
+    }
+
+    @Test
+    public void testEviction() {
+        AnalysisCache analysisCache = new AnalysisCache(fsm, 2);
+        analysisCache.hasParse("kitap");
+        analysisCache.hasParse("ev");
+        analysisCache.hasParse("kitap");
+        analysisCache.hasParse("okul");
+        assertEquals(2, analysisCache.size());
+        assertEquals(1, analysisCache.getEvictionCount());
+        analysisCache.hasParse("kitap");
+        assertEquals(2, analysisCache.getHitCount());
+        analysisCache.hasParse("ev");
+        assertEquals(4, analysisCache.getMissCount());
+    }
+
+}
@@ -0,0 +1,87 @@
+package SpellChecker;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+import static org.junit.Assert.*;
+
+public class CompactContextListTest {
+    String contextList;
+    HashMap<String, ArrayList<String>> lists;
+
+    @Before
+    public void setUp() {
+        contextList = "kitap\tkitaplar kitabı okul\n" +
+                "okul\tokula okulda kitap\n" +
+                "satır sekmesiz\n" +
+                "göz\tgözlük gözlükçü\n" +
+                "ev\tevler\n" +
+                "ev\tevde evden  eve\n" +
+                "boş\t\n";
+        lists = new HashMap<>();
+        lists.put("kitap", new ArrayList<>(Arrays.asList("kitaplar", "kitabı", "okul")));
+        lists.put("okul", new ArrayList<>(Arrays.asList("okula", "okulda", "kitap")));
+        lists.put("göz", new ArrayList<>(Arrays.asList("gözlük", "gözlükçü")));
+        lists.put("ev", new ArrayList<>(Arrays.asList("evde", "evden", "eve")));
+        lists.put("boş", new ArrayList<>());
+    }
+
+    private void assertSameLists(CompactContextList compactContextList) {
+        assertEquals(15, compactContextList.size());
+        for (int id = 0; id < compactContextList.size(); id++) {
+            String word = compactContextList.getWord(id);
+            assertEquals(id, compactContextList.getId(word));
+            assertEquals(word.length(), compactContextList.getLength(id));
+            assertEquals(CompactContextList.signature(word), compactContextList.getSignature(id));
+            if (id > 0) {
+                assertTrue(compactContextList.getWord(id - 1).compareTo(word) < 0);
+            }
+            ArrayList<String> context = new ArrayList<>();
+            for (int i = 0; i < compactContextList.getContextCount(id); i++) {
+                context.add(compactContextList.getWord(compactContextList.getContext(id, i)));
+            }
+            if (lists.containsKey(word)) {
+                assertEquals(lists.get(word), context);
+            } else {
+                assertTrue(context.isEmpty());
+            }
+        }
+        assertEquals(-1, compactContextList.getId("evlerde"));
+        assertEquals(-1, compactContextList.getId("satır"));
+        assertEquals(-1, compactContextList.getId(""));
+    }
+
+    @Test
+    public void testBuild() throws IOException {
+        assertSameLists(CompactContextList.build(new BufferedReader(new StringReader(contextList))));
+    }
+
+    @Test
+    public void testSaveAndMap() throws IOException {
+        CompactContextList compactContextList = CompactContextList.build(new BufferedReader(new StringReader(contextList)));
+        File file = File.createTempFile("context_list", ".bin");
+        try {
+            compactContextList.save(file.getPath());
+            assertSameLists(CompactContextList.map(file.getPath()));
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void testSignatureDistance() {
+        assertEquals(0, CompactContextList.signatureDistance(CompactContextList.signature("kitap"), CompactContextList.signature("KİTAP")));
+        assertEquals(0, CompactContextList.signatureDistance(CompactContextList.signature("kitap"), CompactContextList.signature("ktiap")));
+        assertEquals(1, CompactContextList.signatureDistance(CompactContextList.signature("kitap"), CompactContextList.signature("kitab")));
+        assertEquals(2, CompactContextList.signatureDistance(CompactContextList.signature("kitap"), CompactContextList.signature("kit")));
+    }
+
+}
@@ -0,0 +1,93 @@
+package SpellChecker;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.Assert.*;
+
+public class ConcurrentLruCacheTest {
+
+    @Test
+    public void testLruOrder() {
+        ConcurrentLruCache<String, Integer> cache = new ConcurrentLruCache<>(3);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        assertEquals(1, (int) cache.get("a"));
+        cache.put("d", 4);
+        assertNull(cache.get("b"));
+        assertEquals(1, (int) cache.get("a"));
+        assertEquals(3, (int) cache.get("c"));
+        assertEquals(4, (int) cache.get("d"));
+        assertEquals(3, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        cache.put("a", 5);
+        cache.put("e", 6);
+        assertNull(cache.get("c"));
+        assertEquals(5, (int) cache.get("a"));
+        assertEquals(2, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testHitAndMissCounts() {
+        ConcurrentLruCache<String, Integer> cache = new ConcurrentLruCache<>(10);
+        assertNull(cache.get("a"));
+        cache.put("a", 1);
+        cache.get("a");
+        cache.get("a");
+        cache.get("b");
+        assertEquals(2, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNull(cache.get("a"));
+        assertEquals(3, cache.getMissCount());
+    }
+
+    @Test
+    public void testCapacity() {
+        ConcurrentLruCache<Integer, Integer> cache = new ConcurrentLruCache<>(1000);
+        for (int i = 0; i < 5000; i++) {
+            cache.put(i, i);
+        }
+        assertTrue(cache.size() <= 1000);
+        assertTrue(cache.size() > 900);
+        assertEquals(5000 - cache.size(), cache.getEvictionCount());
+        assertEquals(4999, (int) cache.get(4999));
+        assertNull(cache.get(0));
+        ConcurrentLruCache<Integer, Integer> empty = new ConcurrentLruCache<>(0);
+        empty.put(1, 1);
+        assertEquals(0, empty.size());
+        assertNull(empty.get(1));
+    }
+
+    @Test
+    public void testConcurrentAccess() throws InterruptedException {
+        ConcurrentLruCache<Integer, Integer> cache = new ConcurrentLruCache<>(256);
+        ArrayList<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int offset = t;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    int key = (i * 7 + offset) % 1000;
+                    Integer value = cache.get(key);
+                    if (value == null) {
+                        cache.put(key, key);
+                    } else {
+                        assertEquals(key, (int) value);
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(cache.size() <= 256);
+        assertEquals(40000, cache.getHitCount() + cache.getMissCount());
+    }
+
+}
@@ -7,6 +7,9 @@ import Ngram.NoSmoothing;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+
 import static org.junit.Assert.assertEquals;
 
 public class ContextBasedSpellCheckerTest {
@@ -80,4 +83,17 @@ public class ContextBasedSpellCheckerTest {
         assertEquals("farklı olarak", contextBasedSpellChecker.spellCheck(new Sentence("fatklı olrak")).toString());
         assertEquals("yapılan anlaşma", contextBasedSpellChecker.spellCheck(new Sentence("apıla anlaşma")).toString());
     }
+
+    @Test
+    public void testSpellCheckDocument() {
+        spellCheckerParameter.setRootNGram(false);
+        ContextBasedSpellChecker contextBasedSpellChecker = new ContextBasedSpellChecker(fsm, nGram, spellCheckerParameter);
+        ArrayList<Sentence> document = new ArrayList<>(Arrays.asList(new Sentence("noter hakkınad"), new Sentence("fatklı olrak"), new Sentence("apıla anlaşma")));
+        ArrayList<Sentence> result = contextBasedSpellChecker.spellCheckDocument(document);
+        for (int i = 0; i < document.size(); i++) {
+            assertEquals(contextBasedSpellChecker.spellCheck(document.get(i)).toString(), result.get(i).toString());
+        }
+        spellCheckerParameter.setContextWindowSize(1);
+        assertEquals(document.size(), contextBasedSpellChecker.spellCheckDocument(document).size());
+    }
 }
@@ -0,0 +1,111 @@
+package SpellChecker;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+
+import static org.junit.Assert.*;
+
+public class DiacriticRestorerTest {
+    ArrayList<String> roots;
+    HashSet<String> words;
+    int validations;
+    DiacriticRestorer validatorRestorer;
+    DiacriticRestorer lexiconRestorer;
+
+    @Before
+    public void setUp() {
+        roots = new ArrayList<>(Arrays.asList("çocuk", "kitap", "ağaç", "su", "sıcak", "şu", "ışık", "üç", "Çorum"));
+        words = new HashSet<>(Arrays.asList("çocuk", "çocuklar", "çocuğu", "çocukluğumuzdakiler",
+                "çocukluğumuzdakilerdinizmiş", "kitap", "kitabı", "ağaç", "ağaçlar", "su", "suyu", "sıcak", "sıcağı",
+                "şu", "şunu", "ışık", "ışığı", "üç", "üçü", "Çorum", "Çorumlu"));
+        validatorRestorer = new DiacriticRestorer(roots, name -> {
+            validations++;
+            return words.contains(name);
+        });
+        Trie trie = new Trie();
+        for (String word : words) {
+            trie.insert(word.toLowerCase(new Locale("tr", "TR")));
+        }
+        lexiconRestorer = new DiacriticRestorer(LexiconImage.build(trie));
+    }
+
+    private HashSet<String> names(ArrayList<Candidate> candidates) {
+        HashSet<String> names = new HashSet<>();
+        for (Candidate candidate : candidates) {
+            assertEquals(Operator.SPELL_CHECK, candidate.getOperator());
+            names.add(candidate.getName());
+        }
+        assertEquals(candidates.size(), names.size());
+        return names;
+    }
+
+    private HashSet<String> bruteForce(String word) {
+        HashSet<String> result = new HashSet<>();
+        for (String valid : words) {
+            if (valid.length() == word.length() && !valid.equals(word)) {
+                boolean restoration = true;
+                for (int i = 0; i < word.length() && restoration; i++) {
+                    char character = word.charAt(i);
+                    restoration = valid.charAt(i) == character || valid.charAt(i) == DiacriticRestorer.restore(character);
+                }
+                if (restoration) {
+                    result.add(valid);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Test
+    public void testRestore() {
+        assertEquals('ç', DiacriticRestorer.restore('c'));
+        assertEquals('ı', DiacriticRestorer.restore('i'));
+        assertEquals('İ', DiacriticRestorer.restore('I'));
+        assertEquals('Ş', DiacriticRestorer.restore('S'));
+        assertEquals('k', DiacriticRestorer.restore('k'));
+        assertTrue(DiacriticRestorer.isAscii("cocuk"));
+        assertFalse(DiacriticRestorer.isAscii("çocuk"));
+    }
+
+    @Test
+    public void testSameRestorationsAsBruteForce() {
+        String[] queries = {"cocuk", "cocuklar", "cocugu", "kitabi", "agac", "agaclar", "suyu", "sicak", "sicagi", "su",
+                "sunu", "isik", "isigi", "uc", "ucu", "Corum", "Corumlu", "cocuklugumuzdakiler", "kitap", "xyz", ""};
+        for (String query : queries) {
+            assertEquals(query, bruteForce(query), names(validatorRestorer.restorations(query)));
+            assertEquals(query, bruteForce(query), names(lexiconRestorer.restorations(query)));
+        }
+    }
+
+    @Test
+    public void testValidationsArePruned() {
+        validations = 0;
+        assertEquals(new HashSet<>(Arrays.asList("çocukluğumuzdakiler")), names(validatorRestorer.restorations("cocuklugumuzdakiler")));
+        assertTrue(String.valueOf(validations), validations <= 64);
+        validations = 0;
+        assertTrue(validatorRestorer.restorations("xyzcocuk").isEmpty());
+        assertEquals(0, validations);
+    }
+
+    @Test
+    public void testRestorableLettersAfterTwelfth() {
+        assertEquals("çocukluğumuzdakilerdinizmiş", validatorRestorer.uniqueRestoration("cocuklugumuzdakilerdinizmis").getName());
+        assertEquals("çocukluğumuzdakilerdinizmiş", lexiconRestorer.uniqueRestoration("cocuklugumuzdakilerdinizmis").getName());
+    }
+
+    @Test
+    public void testUniqueRestoration() {
+        assertEquals("çocuk", validatorRestorer.uniqueRestoration("cocuk").getName());
+        assertEquals("Çorumlu", validatorRestorer.uniqueRestoration("Corumlu").getName());
+        assertEquals("çocuk", lexiconRestorer.uniqueRestoration("cocuk").getName());
+        assertNull(validatorRestorer.uniqueRestoration("çocuk"));
+        assertNull(validatorRestorer.uniqueRestoration("xyz"));
+        assertNull(lexiconRestorer.uniqueRestoration("xyz"));
+    }
+
+}
@@ -0,0 +1,85 @@
+package SpellChecker;
+
+import Language.TurkishLanguage;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+
+import static org.junit.Assert.*;
+
+public class EditCandidateGeneratorTest {
+
+    /**
+     * Generates the edits of the given word as a list, as the spell checker generated them before the
+     * {@link EditCandidateGenerator}, including the word itself and the repeated edits.
+     */
+    private ArrayList<String> listCandidates(String word) {
+        String s = TurkishLanguage.LOWERCASE_LETTERS;
+        ArrayList<String> candidates = new ArrayList<>();
+        for (int i = 0; i < word.length(); i++) {
+            if (i < word.length() - 1) {
+                candidates.add(word.substring(0, i) + word.charAt(i + 1) + word.charAt(i) + word.substring(i + 2));
+            }
+            if (TurkishLanguage.LETTERS.contains("" + word.charAt(i)) || "wxq".contains("" + word.charAt(i))) {
+                String deleted = word.substring(0, i) + word.substring(i + 1);
+                if (!deleted.matches("\\d+")) {
+                    candidates.add(deleted);
+                }
+                for (int j = 0; j < s.length(); j++) {
+                    candidates.add(word.substring(0, i) + s.charAt(j) + word.substring(i + 1));
+                }
+                for (int j = 0; j < s.length(); j++) {
+                    candidates.add(word.substring(0, i) + s.charAt(j) + word.substring(i));
+                    if (i == word.length() - 1) {
+                        candidates.add(word + s.charAt(j));
+                    }
+                }
+            }
+        }
+        return candidates;
+    }
+
+    @Test
+    public void testSameCandidatesAsList() {
+        String[] words = {"kitap", "kitaap", "anne", "saat", "ssaat", "tıkkk", "çiçek", "ağaç", "a", "aa", "2tb",
+                "90lı", "1a2", "e-posta", "İstanbul", "Ankara'da", "wxq", "", "afyonkarahisarlılaştıramadıklarımızdanmışsınızcasına"};
+        EditCandidateGenerator generator = new EditCandidateGenerator();
+        for (String word : words) {
+            LinkedHashSet<String> expected = new LinkedHashSet<>(listCandidates(word));
+            expected.remove(word);
+            ArrayList<String> generated = new ArrayList<>();
+            generator.generate(word, generated::add);
+            assertEquals(word, new ArrayList<>(expected), generated);
+        }
+    }
+
+    @Test
+    public void testRepeatedLetters() {
+        EditCandidateGenerator generator = new EditCandidateGenerator();
+        ArrayList<String> generated = new ArrayList<>();
+        generator.generate("saat", generated::add);
+        assertFalse(generated.contains("saat"));
+        assertEquals(1, generated.stream().filter("sat"::equals).count());
+        assertEquals(1, generated.stream().filter("saaat"::equals).count());
+        assertEquals(generated.size(), new LinkedHashSet<>(generated).size());
+    }
+
+    @Test
+    public void testHashCollisions() {
+        EditCandidateGenerator generator = new EditCandidateGenerator() {
+            @Override
+            long hash(int length) {
+                return 1 + length % 2;
+            }
+        };
+        for (String word : new String[]{"kitap", "saat", "a", ""}) {
+            LinkedHashSet<String> expected = new LinkedHashSet<>(listCandidates(word));
+            expected.remove(word);
+            ArrayList<String> generated = new ArrayList<>();
+            generator.generate(word, generated::add);
+            assertEquals(word, new ArrayList<>(expected), generated);
+        }
+    }
+
+}
@@ -0,0 +1,71 @@
+package SpellChecker;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EditDistanceBenchmark {
+    private String word;
+    private String[] candidates;
+    private int[] bounds;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(1);
+        String letters = "abcçdefgğhıijklmnoöprsştuüvyz";
+        word = "mikrorkanismanın";
+        candidates = new String[1000];
+        bounds = new int[candidates.length];
+        for (int i = 0; i < candidates.length; i++) {
+            StringBuilder candidate = new StringBuilder();
+            int length = 3 + random.nextInt(15);
+            for (int j = 0; j < length; j++) {
+                candidate.append(letters.charAt(random.nextInt(letters.length())));
+            }
+            if (i % 10 == 0) {
+                candidate = new StringBuilder("mikroorganizmanın");
+            }
+            candidates[i] = candidate.toString();
+            bounds[i] = candidates[i].length() < 5 ? 1 : (candidates[i].length() < 7 ? 2 : 3);
+        }
+    }
+
+    @Benchmark
+    public void fullMatrix(Blackhole blackhole) {
+        for (int i = 0; i < candidates.length; i++) {
+            blackhole.consume(EditDistanceTest.referenceDistance(word, candidates[i]) <= bounds[i]);
+        }
+    }
+
+    @Benchmark
+    public void bandedDynamicProgramming(Blackhole blackhole) {
+        for (int i = 0; i < candidates.length; i++) {
+            blackhole.consume(EditDistance.bandedDistance(word, candidates[i], bounds[i]) <= bounds[i]);
+        }
+    }
+
+    @Benchmark
+    public void bitParallel(Blackhole blackhole) {
+        EditDistancePattern pattern = new EditDistancePattern(word);
+        for (int i = 0; i < candidates.length; i++) {
+            blackhole.consume(pattern.distance(candidates[i], bounds[i]) <= bounds[i]);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder().include(EditDistanceBenchmark.class.getSimpleName()).build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,86 @@
+package SpellChecker;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class EditDistanceTest {
+
+    /**
+     * Full matrix restricted Damerau-Levenshtein distance, as computed by the context based spell checker before.
+     */
+    static int referenceDistance(String first, String second) {
+        int firstLength = first.length();
+        int secondLength = second.length();
+        int[][] distanceMatrix = new int[firstLength + 1][secondLength + 1];
+        for (int firstIndex = 0; firstIndex <= firstLength; firstIndex++) {
+            distanceMatrix[firstIndex][0] = firstIndex;
+        }
+        for (int secondIndex = 0; secondIndex <= secondLength; secondIndex++) {
+            distanceMatrix[0][secondIndex] = secondIndex;
+        }
+        for (int firstIndex = 1; firstIndex <= firstLength; firstIndex++) {
+            for (int secondIndex = 1; secondIndex <= secondLength; secondIndex++) {
+                int cost = first.charAt(firstIndex - 1) == second.charAt(secondIndex - 1) ? 0 : 1;
+                distanceMatrix[firstIndex][secondIndex] = Math.min(Math.min(distanceMatrix[firstIndex - 1][secondIndex] + 1,
+                        distanceMatrix[firstIndex][secondIndex - 1] + 1), distanceMatrix[firstIndex - 1][secondIndex - 1] + cost);
+                if (firstIndex > 1 && secondIndex > 1 && first.charAt(firstIndex - 1) == second.charAt(secondIndex - 2) && first.charAt(firstIndex - 2) == second.charAt(secondIndex - 1)) {
+                    distanceMatrix[firstIndex][secondIndex] = Math.min(distanceMatrix[firstIndex][secondIndex], distanceMatrix[firstIndex - 2][secondIndex - 2] + cost);
+                }
+            }
+        }
+        return distanceMatrix[firstLength][secondLength];
+    }
+
+    private String randomWord(Random random, String letters, int length) {
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            word.append(letters.charAt(random.nextInt(letters.length())));
+        }
+        return word.toString();
+    }
+
+    @Test
+    public void testDistance() {
+        assertEquals(1, EditDistance.boundedDistance("hakkınad", "hakkında", 3));
+        assertEquals(1, EditDistance.boundedDistance("çamşaır", "çamaşır", 3));
+        assertEquals(2, EditDistance.boundedDistance("ortögretim", "ortaöğretim", 3));
+        assertEquals(4, EditDistance.boundedDistance("kitap", "", 3));
+        assertEquals(3, EditDistance.boundedDistance("ca", "abc", 3));
+        assertEquals(2, EditDistance.boundedDistance("antibiodik", "antibiyotik", 1));
+        EditDistancePattern pattern = new EditDistancePattern("mikrorkanismanın");
+        assertEquals(3, pattern.distance("mikroorganizmanın", 3));
+        assertEquals(4, pattern.distance("mikroorganizma", 3));
+    }
+
+    @Test
+    public void testRandomDistance() {
+        Random random = new Random(1);
+        String letters = "abcçdeğıi";
+        for (int i = 0; i < 20000; i++) {
+            int length = i % 10 == 0 ? 60 + random.nextInt(20) : random.nextInt(12);
+            String first = randomWord(random, letters, length);
+            String second = random.nextBoolean() ? randomWord(random, letters, Math.max(0, length + random.nextInt(5) - 2)) : first.substring(0, length / 2) + randomWord(random, letters, 2) + first.substring(length / 2);
+            int bound = random.nextInt(5);
+            int expected = Math.min(referenceDistance(first, second), bound + 1);
+            assertEquals(expected, EditDistance.boundedDistance(first, second, bound));
+            assertEquals(expected, new EditDistancePattern(first).distance(second, bound));
+        }
+    }
+
+    @Test
+    public void testSignatureDistance() {
+        assertEquals(0, CompactContextList.signatureDistance(CompactContextList.signature("çamşaır"), CompactContextList.signature("çamaşır")));
+        assertEquals(3, CompactContextList.signatureDistance(CompactContextList.signature("kitap"), CompactContextList.signature("kalem")));
+        Random random = new Random(2);
+        String letters = "abcçdeğıiIİ1'";
+        for (int i = 0; i < 20000; i++) {
+            String first = randomWord(random, letters, random.nextInt(10));
+            String second = randomWord(random, letters, random.nextInt(10));
+            assertTrue(CompactContextList.signatureDistance(CompactContextList.signature(first), CompactContextList.signature(second)) <= referenceDistance(first, second));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package SpellChecker;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.StringReader;
+
+import static org.junit.Assert.*;
+
+public class LexiconImageTest {
+    String[] words = {"ağaç", "ağaçlar", "ağaçları", "ayı", "ayılar", "çiçek", "çiçekçi", "kalem", "kalemler", "kale",
+            "a", "ıslak"};
+    Trie trie;
+
+    @Before
+    public void setUp() {
+        trie = new Trie();
+        for (String word : words) {
+            trie.insert(word);
+        }
+    }
+
+    private void assertSameAutomaton(TrieNode node, LexiconImage image, int state) {
+        assertEquals(node.isWord(), image.isAcceptingState(state));
+        assertEquals(node.childCount(), image.getTransitionCount(state));
+        assertEquals(node.childrenToString(), image.childrenToString(state));
+        for (int i = 0; i < node.childCount(); i++) {
+            assertEquals(node.getCharacter(i), image.getTransitionCharacter(state, i));
+            int target = image.getTransitionTarget(state, i);
+            assertEquals(target, image.getNextState(state, node.getCharacter(i)));
+            assertSameAutomaton(node.getChildAt(i), image, target);
+        }
+    }
+
+    private void assertSameWords(LexiconImage image) {
+        for (String word : words) {
+            assertTrue(image.search(word));
+        }
+        assertFalse(image.search("ağa"));
+        assertFalse(image.search("kalemlerde"));
+        assertFalse(image.search(""));
+        assertTrue(image.search("ISLAK"));
+        assertTrue(image.startsWith("çiçe"));
+        assertFalse(image.startsWith("b"));
+        assertEquals(-1, image.getNextState(image.getRootState(), 'b'));
+    }
+
+    @Test
+    public void testBuild() throws IOException {
+        LexiconImage image = LexiconImage.build(trie);
+        assertSameAutomaton(trie.getTrieNode(""), image, image.getRootState());
+        assertSameWords(image);
+        LexiconImage fromReader = LexiconImage.build(new BufferedReader(new StringReader(String.join("\n", words))));
+        assertEquals(image.getStateCount(), fromReader.getStateCount());
+        assertSameAutomaton(trie.getTrieNode(""), fromReader, fromReader.getRootState());
+    }
+
+    @Test
+    public void testSaveAndMap() throws IOException {
+        File file = File.createTempFile("lexicon", ".bin");
+        try {
+            LexiconImage image = LexiconImage.build(trie);
+            image.save(file.getPath());
+            LexiconImage mapped = LexiconImage.map(file.getPath());
+            assertEquals(image.getStateCount(), mapped.getStateCount());
+            assertSameAutomaton(trie.getTrieNode(""), mapped, mapped.getRootState());
+            assertSameWords(mapped);
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testMapInvalid() throws IOException {
+        File file = File.createTempFile("lexicon", ".bin");
+        try {
+            try (FileOutputStream outputStream = new FileOutputStream(file)) {
+                outputStream.write(new byte[64]);
+            }
+            LexiconImage.map(file.getPath());
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testMapTruncated() throws IOException {
+        File file = File.createTempFile("lexicon", ".bin");
+        try {
+            LexiconImage.build(trie).save(file.getPath());
+            try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+                randomAccessFile.setLength(randomAccessFile.length() - 4);
+            }
+            LexiconImage.map(file.getPath());
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testMapShorterThanHeader() throws IOException {
+        File file = File.createTempFile("lexicon", ".bin");
+        try {
+            try (FileOutputStream outputStream = new FileOutputStream(file)) {
+                outputStream.write(new byte[]{0x4c, 0x58});
+            }
+            LexiconImage.map(file.getPath());
+        } finally {
+            file.delete();
+        }
+    }
+
+}
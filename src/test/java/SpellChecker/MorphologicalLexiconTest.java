@@ -0,0 +1,93 @@
+package SpellChecker;
+
+import MorphologicalAnalysis.FsmMorphologicalAnalyzer;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.Assert.*;
+
+public class MorphologicalLexiconTest {
+    AnalysisCache analysisCache;
+    MorphologicalLexicon lexicon;
+    String[] words = {"kitap", "kitabı", "kitaplar", "kitaplarda", "evde", "evden", "ağzı", "burnu", "gözlük", "gözlükçü",
+            "okul", "okula", "su", "suyu", "ve", "kitapx", "evdee", "bnaa", "gözlkü", "okuul", "xyz"};
+
+    @Before
+    public void setUp() {
+        analysisCache = new AnalysisCache(new FsmMorphologicalAnalyzer(), 100000);
+        lexicon = new MorphologicalLexicon(analysisCache, 12, 100000);
+    }
+
+    @Test
+    public void testSameFormsAsAnalyzer() {
+        MorphologicalLexicon.Session session = lexicon.newSession();
+        for (String word : words) {
+            assertEquals(word, analysisCache.hasParse(word), session.search(word));
+        }
+    }
+
+    @Test
+    public void testPrefixes() {
+        MorphologicalLexicon.Session session = lexicon.newSession();
+        int state = session.getState("kitab");
+        assertNotEquals(-1, state);
+        assertEquals("kitab", session.getPrefix(state));
+        assertEquals(state, session.getState("kitab"));
+        assertEquals(-1, session.getState("kitabx"));
+        assertEquals(-1, lexicon.newSession().getState("kitabx"));
+    }
+
+    @Test
+    public void testEvictionDuringSearch() {
+        MorphologicalLexicon.Session session = new MorphologicalLexicon(analysisCache, 12, 1).newSession();
+        MorphologicalLexicon.Session reference = lexicon.newSession();
+        ArrayList<Integer> states = new ArrayList<>();
+        ArrayList<Integer> referenceStates = new ArrayList<>();
+        for (String word : words) {
+            states.add(session.getState(word));
+            referenceStates.add(reference.getState(word));
+        }
+        for (int i = 0; i < words.length; i++) {
+            assertEquals(words[i], referenceStates.get(i) == -1, states.get(i) == -1);
+            if (states.get(i) != -1) {
+                assertEquals(words[i], reference.isAcceptingState(referenceStates.get(i)), session.isAcceptingState(states.get(i)));
+                assertEquals(words[i], reference.childrenToString(referenceStates.get(i)), session.childrenToString(states.get(i)));
+            }
+        }
+    }
+
+    @Test
+    public void testConcurrentSessions() throws InterruptedException {
+        MorphologicalLexicon small = new MorphologicalLexicon(analysisCache, 12, 16);
+        boolean[] expected = new boolean[words.length];
+        for (int i = 0; i < words.length; i++) {
+            expected[i] = analysisCache.hasParse(words[i]);
+        }
+        ArrayList<Throwable> failures = new ArrayList<>();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                try {
+                    for (int repeat = 0; repeat < 5; repeat++) {
+                        MorphologicalLexicon.Session session = small.newSession();
+                        for (int i = 0; i < words.length; i++) {
+                            assertEquals(words[i], expected[i], session.search(words[i]));
+                        }
+                    }
+                } catch (Throwable throwable) {
+                    synchronized (failures) {
+                        failures.add(throwable);
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(failures.toString(), failures.isEmpty());
+    }
+
+}
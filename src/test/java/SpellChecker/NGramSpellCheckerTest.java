@@ -5,6 +5,14 @@ import MorphologicalAnalysis.FsmMorphologicalAnalyzer;
 import Ngram.*;
 import org.junit.Before;
 import org.junit.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+
 import static org.junit.Assert.*;
 
 public class NGramSpellCheckerTest {
@@ -128,6 +136,84 @@ public class NGramSpellCheckerTest {
         }
     }
 
+    @Test
+    public void testSpellCheckBatch() throws Exception {
+        ArrayList<Sentence> original = new ArrayList<>(Arrays.asList(
+                new Sentence("yardımcı olur musunuz ?"),
+                new Sentence("2 tb depolama alanına sahip 7200 rpm bir disk"),
+                new Sentence("bütün suç Selma'da değil"),
+                new Sentence("90'lı yıllarda ülkede çok büyük değişimler oldu"),
+                new Sentence("size konuyla ilgili bir e-posta gönderdim")));
+        ArrayList<Sentence> modified = new ArrayList<>(Arrays.asList(
+                new Sentence("yardımcı olurmusunuz ?"),
+                new Sentence("2tb depolama alanına sahip 7200rpm bir disk"),
+                new Sentence("bütün suç Selmada değil"),
+                new Sentence("90 lü yıllarda ülkede çok büyük değişimler oldu"),
+                new Sentence("size konuyla ilgili bir e - posta gönderdim")));
+        NGramSpellChecker nGramSpellChecker = new NGramSpellChecker(fsm, nGram, spellCheckerParameter);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        ArrayList<Sentence> result = nGramSpellChecker.spellCheck(modified, pool);
+        ArrayList<Sentence> asyncResult = nGramSpellChecker.spellCheckAsync(modified, pool).get();
+        pool.shutdown();
+        for (int i = 0; i < modified.size(); i++){
+            assertEquals(original.get(i).toString(), result.get(i).toString());
+            assertEquals(original.get(i).toString(), asyncResult.get(i).toString());
+        }
+    }
+
+    @Test
+    public void testSpellCheckStream() throws Exception {
+        String original = "yardımcı olur musunuz ?\n2 tb depolama alanına sahip 7200 rpm bir disk\nbütün suç Selma'da değil\n";
+        String modified = "yardımcı olurmusunuz ?\n2tb depolama alanına sahip 7200rpm bir disk\nbütün suç Selmada değil\n";
+        NGramSpellChecker nGramSpellChecker = new NGramSpellChecker(fsm, nGram, spellCheckerParameter);
+        StringWriter writer = new StringWriter();
+        new StreamingSpellChecker(nGramSpellChecker).spellCheck(new StringReader(modified), writer);
+        assertEquals(original, writer.toString());
+        writer = new StringWriter();
+        new StreamingSpellChecker(nGramSpellChecker, 2, 2).spellCheck(new StringReader(modified), writer);
+        assertEquals(original, writer.toString());
+    }
+
+    @Test
+    public void testSpellCheckStreamEarlyStop() throws Exception {
+        NGramSpellChecker nGramSpellChecker = new NGramSpellChecker(fsm, nGram, spellCheckerParameter);
+        int[] read = {0};
+        Iterator<Sentence> source = new Iterator<Sentence>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Sentence next() {
+                read[0]++;
+                return new Sentence("noter hakkınad");
+            }
+        };
+        StreamingSpellChecker.SentenceIterator iterator = new StreamingSpellChecker(nGramSpellChecker, 2, 3).spellCheck(source);
+        assertEquals(0, read[0]);
+        try (StreamingSpellChecker.SentenceIterator sentences = iterator) {
+            assertEquals("noter hakkında", sentences.next().toString());
+            assertEquals("noter hakkında", sentences.next().toString());
+        }
+        assertTrue(read[0] <= 5);
+        assertFalse(iterator.hasNext());
+        for (int i = 0; i < 100 && workerCount() > 0; i++) {
+            Thread.sleep(100);
+        }
+        assertEquals(0, workerCount());
+    }
+
+    private int workerCount() {
+        int count = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().equals("spell-checker-worker") && thread.isAlive()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
     @Test
     public void testSpellCheckSurfaceForm() {
         spellCheckerParameter.setRootNGram(false);
@@ -137,4 +223,52 @@ public class NGramSpellCheckerTest {
         assertEquals("ruhsat yanında", nGramSpellChecker.spellCheck(new Sentence("ruhset yanında")).toString());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testSpellCheckBigramCache() {
+        spellCheckerParameter.setBigramCacheSize(1000);
+        NGramSpellChecker nGramSpellChecker = new NGramSpellChecker(fsm, nGram, spellCheckerParameter);
+        for (int i = 0; i < 2; i++) {
+            assertEquals("noter hakkında", nGramSpellChecker.spellCheck(new Sentence("noter hakkınad")).toString());
+            assertEquals("arçelik'in çamaşır", nGramSpellChecker.spellCheck(new Sentence("arçelik'in çamşaır")).toString());
+            assertEquals("ruhsat yanında", nGramSpellChecker.spellCheck(new Sentence("ruhset yanında")).toString());
+        }
+    }
+
+    @Test
+    public void testSpellCheckLattice() {
+        spellCheckerParameter.setLatticeDecoder(true);
+        for (int beamWidth : new int[]{0, 4}) {
+            spellCheckerParameter.setLatticeBeamWidth(beamWidth);
+            NGramSpellChecker nGramSpellChecker = new NGramSpellChecker(fsm, nGram, spellCheckerParameter);
+            assertEquals("minibüs durağı", nGramSpellChecker.spellCheck(new Sentence("minibü durağı")).toString());
+            assertEquals("noter belgesi", nGramSpellChecker.spellCheck(new Sentence("ntoer belgesi")).toString());
+            assertEquals("noter hakkında", nGramSpellChecker.spellCheck(new Sentence("noter hakkınad")).toString());
+            assertEquals("bu filmi daha önce görmemiş miydik diye sordu", nGramSpellChecker.spellCheck(new Sentence("bu filmi daha önce görmemişmiydik diye sordu")).toString());
+        }
+    }
+
+    @Test
+    public void testSpellCheckTieredCandidates() {
+        spellCheckerParameter.setTieredCandidates(true);
+        NGramSpellChecker nGramSpellChecker = new NGramSpellChecker(fsm, nGram, spellCheckerParameter);
+        assertTrue(nGramSpellChecker.hasOnlyEditCandidates());
+        assertFalse(new ContextBasedSpellChecker(fsm, nGram, spellCheckerParameter).hasOnlyEditCandidates());
+        assertFalse(new TrieBasedSpellChecker(fsm, nGram, spellCheckerParameter).hasOnlyEditCandidates());
+        assertEquals("minibüs durağı", nGramSpellChecker.spellCheck(new Sentence("minibü durağı")).toString());
+        assertEquals("noter belgesi", nGramSpellChecker.spellCheck(new Sentence("ntoer belgesi")).toString());
+        assertEquals("noter hakkında", nGramSpellChecker.spellCheck(new Sentence("noter hakkınad")).toString());
+    }
+
+    @Test
+    public void testSpellCheckDiacriticRestoration() {
+        spellCheckerParameter.setDiacriticRestoration(true);
+        for (boolean latticeDecoder : new boolean[]{false, true}) {
+            spellCheckerParameter.setLatticeDecoder(latticeDecoder);
+            NGramSpellChecker nGramSpellChecker = new NGramSpellChecker(fsm, nGram, spellCheckerParameter);
+            assertEquals("minibüs durağı", nGramSpellChecker.spellCheck(new Sentence("minibus duragi")).toString());
+            assertEquals("noter hakkında", nGramSpellChecker.spellCheck(new Sentence("noter hakkinda")).toString());
+            assertEquals("noter belgesi", nGramSpellChecker.spellCheck(new Sentence("ntoer belgesi")).toString());
+        }
+    }
+
+}
@@ -0,0 +1,51 @@
+package SpellChecker;
+
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class QuantizedBigramModelTest {
+
+    private QuantizedBigramModel build(int bits) throws IOException {
+        String bigrams = "noter hakkında 0.25\n" +
+                "noter belgesi 0.5\n" +
+                "çamaşır makinesi 0.125\n" +
+                "noter 0.001\n" +
+                "çamaşır 0.0001\n";
+        return QuantizedBigramModel.build(new BufferedReader(new StringReader(bigrams)), bits);
+    }
+
+    @Test
+    public void testProbability() throws IOException {
+        for (int bits : new int[]{8, 16}) {
+            QuantizedBigramModel model = build(bits);
+            double error = bits == 8 ? 0.05 : 0.001;
+            assertEquals(5, model.size());
+            assertEquals(3, model.getBigramCount());
+            assertEquals(0.25, model.getProbability("noter", "hakkında"), 0.25 * error);
+            assertEquals(0.5, model.getProbability("noter", "belgesi"), 0.5 * error);
+            assertEquals(0.125, model.getProbability("çamaşır", "makinesi"), 0.125 * error);
+            assertEquals(0.001, model.getProbability("noter", "makinesi"), 0.001 * error);
+            assertEquals(0.001, model.getProbability("noter", "kalem"), 0.001 * error);
+            assertEquals(0.0, model.getProbability("hakkında", "noter"), 0.0);
+            assertEquals(0.0, model.getProbability("kalem", "noter"), 0.0);
+        }
+    }
+
+    @Test
+    public void testVocabulary() throws IOException {
+        QuantizedBigramModel model = build(16);
+        boolean[] used = new boolean[model.size()];
+        for (String word : new String[]{"noter", "hakkında", "belgesi", "çamaşır", "makinesi"}) {
+            int id = model.getId(word);
+            assertTrue(id >= 0 && id < model.size() && !used[id]);
+            used[id] = true;
+        }
+        assertEquals(-1, model.getId("kalem"));
+    }
+}
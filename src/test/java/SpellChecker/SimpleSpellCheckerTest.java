@@ -10,6 +10,7 @@ import java.io.FileNotFoundException;
 import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.Assert.*;
 
@@ -58,6 +59,45 @@ public class SimpleSpellCheckerTest {
         }
     }
 
+    private ArrayList<String> editNames(String name) {
+        ArrayList<String> names = new ArrayList<>();
+        new EditCandidateGenerator().generate(name, names::add);
+        return names;
+    }
+
+    @Test
+    public void testParallelValidation() {
+        FsmMorphologicalAnalyzer fsm = new FsmMorphologicalAnalyzer();
+        SimpleSpellChecker sequentialSpellChecker = new SimpleSpellChecker(fsm);
+        SpellCheckerParameter parameter = new SpellCheckerParameter();
+        parameter.setParallelValidationLength(1);
+        parameter.setValidationPool(new ForkJoinPool(2));
+        SimpleSpellChecker parallelSpellChecker = new SimpleSpellChecker(fsm, parameter);
+        for (String name : new String[]{"kitapa", "gecti", "yenidün", "olarka", "hakkınd"}) {
+            ArrayList<Candidate> sequential = sequentialSpellChecker.candidateList(new Word(name), new Sentence());
+            for (boolean parallel : new boolean[]{false, true}) {
+                ArrayList<Candidate> validated = parallelSpellChecker.validateCandidates(editNames(name), parallel);
+                assertEquals(sequential.size(), validated.size());
+                for (int i = 0; i < sequential.size(); i++) {
+                    assertEquals(sequential.get(i).getName(), validated.get(i).getName());
+                    assertEquals(sequential.get(i).getOperator(), validated.get(i).getOperator());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testForcedSuffixSplitCheck() {
+        FsmMorphologicalAnalyzer fsm = new FsmMorphologicalAnalyzer();
+        SimpleSpellChecker simpleSpellChecker = new SimpleSpellChecker(fsm);
+        Sentence sentence = new Sentence();
+        assertTrue(simpleSpellChecker.forcedSuffixSplitCheck(new Word("istanbuldan"), sentence));
+        assertEquals("İstanbul'dan", sentence.toString());
+        sentence = new Sentence();
+        assertFalse(simpleSpellChecker.forcedSuffixSplitCheck(new Word("kitaplar"), sentence));
+        assertEquals(0, sentence.wordCount());
+    }
+
     public void testDistinctWordList() {
         FsmMorphologicalAnalyzer fsm = new FsmMorphologicalAnalyzer();
         SimpleSpellChecker simpleSpellChecker = new SimpleSpellChecker(fsm);
@@ -0,0 +1,42 @@
+package SpellChecker;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class SuffixAutomatonTest {
+
+    @Test
+    public void testMatchLengths() {
+        SuffixAutomaton automaton = new SuffixAutomaton();
+        automaton.add("mi", 0);
+        automaton.add("miydik", 0);
+        automaton.add("ydik", 0);
+        automaton.add("de", 1);
+        automaton.add("da", 1);
+        long lengths = automaton.matchLengths("görmemişmiydik", 0);
+        assertEquals(6, SuffixAutomaton.longest(lengths));
+        lengths &= ~Long.highestOneBit(lengths);
+        assertEquals(4, SuffixAutomaton.longest(lengths));
+        lengths &= ~Long.highestOneBit(lengths);
+        assertEquals(0, lengths);
+        assertEquals(-1, SuffixAutomaton.longest(automaton.matchLengths("görmemişmiydik", 1)));
+        assertEquals(2, SuffixAutomaton.longest(automaton.matchLengths("evde", 1)));
+        assertEquals(0, automaton.matchLengths("evde", 0));
+        assertEquals(0, automaton.matchLengths("", 0));
+    }
+
+    @Test
+    public void testContains() {
+        SuffixAutomaton automaton = new SuffixAutomaton();
+        automaton.add("li", 2);
+        automaton.add("lik", 3);
+        automaton.add("lık", 3);
+        assertTrue(automaton.contains("li", 2));
+        assertTrue(automaton.contains("lık", 3));
+        assertFalse(automaton.contains("li", 3));
+        assertFalse(automaton.contains("kalemli", 2));
+        assertFalse(automaton.contains("i", 2));
+    }
+
+}
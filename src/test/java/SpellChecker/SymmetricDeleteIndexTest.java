@@ -0,0 +1,79 @@
+package SpellChecker;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.junit.Assert.*;
+
+public class SymmetricDeleteIndexTest {
+    ArrayList<String> words;
+    String[] queries = {"kitap", "ktap", "kiatp", "kitaplar", "kitaplra", "kitaplarımızdakiler", "kitaplarımızdakler",
+            "ev", "e", "evler", "evlre", "okul", "okull", "okuldaa", "göz", "gözlük", "gözlüğk", "masa", "amsa", "xyz", ""};
+
+    @Before
+    public void setUp() {
+        words = new ArrayList<>(Arrays.asList("kitap", "kitabı", "kitaplar", "kitaplara", "kitaplarımızdakiler",
+                "kitaplarımızdakilere", "ev", "eve", "evde", "evler", "el", "al", "okul", "okula", "okulda", "göz",
+                "gözlük", "gözlüğü", "gözlükçü", "masa", "masal", "kasa", "kasap", "aa", "a"));
+    }
+
+    private void assertSameAsBruteForce(SymmetricDeleteIndex index, int distance) {
+        for (String query : queries) {
+            HashSet<String> expected = new HashSet<>();
+            for (String word : words) {
+                int wordDistance = EditDistance.boundedDistance(query, word, distance);
+                if (wordDistance > 0 && wordDistance <= distance) {
+                    expected.add(word);
+                }
+            }
+            ArrayList<String> found = index.lookup(query, distance);
+            assertEquals(query, expected, new HashSet<>(found));
+            assertEquals(query, expected.size(), found.size());
+            for (int i = 1; i < found.size(); i++) {
+                assertTrue(query, EditDistance.boundedDistance(query, found.get(i - 1), distance) <= EditDistance.boundedDistance(query, found.get(i), distance));
+            }
+        }
+    }
+
+    @Test
+    public void testLookup() {
+        SymmetricDeleteIndex index = new SymmetricDeleteIndex(words, 2, 7);
+        assertEquals(words.size(), index.size());
+        assertSameAsBruteForce(index, 1);
+        assertSameAsBruteForce(index, 2);
+        assertSameAsBruteForce(new SymmetricDeleteIndex(words, 1, 7), 1);
+    }
+
+    @Test
+    public void testSaveAndLoad() throws IOException {
+        SymmetricDeleteIndex index = new SymmetricDeleteIndex(words, 2, 7);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        index.save(outputStream);
+        SymmetricDeleteIndex loaded = new SymmetricDeleteIndex(new ByteArrayInputStream(outputStream.toByteArray()));
+        assertEquals(2, loaded.getMaxDistance());
+        assertEquals(index.size(), loaded.size());
+        assertSameAsBruteForce(loaded, 1);
+        assertSameAsBruteForce(loaded, 2);
+        for (String query : queries) {
+            assertEquals(index.lookup(query, 2), loaded.lookup(query, 2));
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testLoadInvalid() throws IOException {
+        new SymmetricDeleteIndex(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5, 6, 7, 8}));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDistanceLargerThanIndex() {
+        new SymmetricDeleteIndex(words, 1, 7).lookup("kitap", 2);
+    }
+
+}
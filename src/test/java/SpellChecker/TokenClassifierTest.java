@@ -0,0 +1,47 @@
+package SpellChecker;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TokenClassifierTest {
+
+    private boolean hasClass(String token, int tokenClass) {
+        return (TokenClassifier.classify(token) & tokenClass) != 0;
+    }
+
+    @Test
+    public void testNumberWithUnit() {
+        assertTrue(hasClass("5kg", TokenClassifier.NUMBER_WITH_UNIT));
+        assertTrue(hasClass("2.5mm", TokenClassifier.NUMBER_WITH_UNIT));
+        assertTrue(hasClass("0,75lt", TokenClassifier.NUMBER_WITH_UNIT));
+        assertTrue(hasClass("24inç", TokenClassifier.NUMBER_WITH_UNIT));
+        assertTrue(hasClass("100m", TokenClassifier.NUMBER_WITH_UNIT));
+        assertFalse(hasClass("1000m", TokenClassifier.NUMBER_WITH_UNIT));
+        assertTrue(hasClass("1000mm", TokenClassifier.NUMBER_WITH_UNIT));
+        assertFalse(hasClass("05kg", TokenClassifier.NUMBER_WITH_UNIT));
+        assertFalse(hasClass("kg", TokenClassifier.NUMBER_WITH_UNIT));
+        assertFalse(hasClass("5", TokenClassifier.NUMBER_WITH_UNIT));
+        assertFalse(hasClass("5kgs", TokenClassifier.NUMBER_WITH_UNIT));
+    }
+
+    @Test
+    public void testClasses() {
+        assertTrue(hasClass("1997", TokenClassifier.NUMERIC));
+        assertFalse(hasClass("1997'de", TokenClassifier.NUMERIC));
+        assertTrue(hasClass("yalıçapkını", TokenClassifier.LETTERS));
+        assertTrue(hasClass("İstanbul", TokenClassifier.LETTERS));
+        assertFalse(hasClass("play-off", TokenClassifier.LETTERS));
+        assertTrue(hasClass("-", TokenClassifier.DASH));
+        assertTrue(hasClass("—", TokenClassifier.DASH));
+        assertFalse(hasClass("--", TokenClassifier.DASH));
+        assertTrue(hasClass("İstanbul'da", TokenClassifier.APOSTROPHE));
+        assertTrue(hasClass("İstanbul'da", TokenClassifier.DE_DA));
+        assertFalse(hasClass("evden", TokenClassifier.DE_DA));
+        assertTrue(hasClass("10mhz", TokenClassifier.HAS_DIGIT));
+        assertTrue(hasClass("10mhz", TokenClassifier.HAS_LETTER));
+        assertFalse(hasClass("10", TokenClassifier.HAS_LETTER));
+        assertEquals(0, TokenClassifier.classify(""));
+    }
+
+}
@@ -1,12 +1,17 @@
 package SpellChecker;
 
 import Corpus.Sentence;
+import Dictionary.Word;
 import MorphologicalAnalysis.FsmMorphologicalAnalyzer;
 import Ngram.NGram;
 import Ngram.NoSmoothing;
 import org.junit.Before;
 import org.junit.Test;
+
+import java.util.ArrayList;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public class TrieBasedSpellCheckerTest {
     FsmMorphologicalAnalyzer fsm;
@@ -73,4 +78,51 @@ public class TrieBasedSpellCheckerTest {
         assertEquals("arçelik'in çamaşır", trieBasedSpellChecker.spellCheck(new Sentence("arçelik'in çamşaır")).toString());
         assertEquals("ruhsat yanında", trieBasedSpellChecker.spellCheck(new Sentence("ruhset yanında")).toString());
     }
+
+    @Test
+    public void testSpellCheckLevenshteinAutomaton() {
+        spellCheckerParameter.setRootNGram(false);
+        spellCheckerParameter.setLevenshteinAutomaton(true);
+        TrieBasedSpellChecker trieBasedSpellChecker = new TrieBasedSpellChecker(fsm, nGram, spellCheckerParameter);
+        assertEquals("noter hakkında", trieBasedSpellChecker.spellCheck(new Sentence("noter hakkınad")).toString());
+        assertEquals("arçelik'in çamaşır", trieBasedSpellChecker.spellCheck(new Sentence("arçelik'in çamşaır")).toString());
+        assertEquals("ruhsat yanında", trieBasedSpellChecker.spellCheck(new Sentence("ruhset yanında")).toString());
+    }
+
+    private ArrayList<String> candidateNames(SpellCheckerParameter parameter, String word) {
+        TrieBasedSpellChecker trieBasedSpellChecker = new TrieBasedSpellChecker(fsm, nGram, parameter);
+        ArrayList<String> names = new ArrayList<>();
+        double previousPenalty = 0.0;
+        for (Candidate candidate : trieBasedSpellChecker.candidateList(new Word(word), new Sentence(word))) {
+            double penalty = ((TrieCandidate) candidate).getCurrentPenalty();
+            assertTrue(penalty >= previousPenalty);
+            previousPenalty = penalty;
+            names.add(candidate.getName());
+        }
+        return names;
+    }
+
+    @Test
+    public void testCandidateLimits() {
+        for (boolean levenshteinAutomaton : new boolean[]{false, true}) {
+            spellCheckerParameter.setLevenshteinAutomaton(levenshteinAutomaton);
+            spellCheckerParameter.setTrieCandidateLimit(0);
+            spellCheckerParameter.setTrieExpansionLimit(0);
+            ArrayList<String> all = candidateNames(spellCheckerParameter, "kitpa");
+            assertTrue(all.size() > 3);
+            assertTrue(all.contains("kitap"));
+            spellCheckerParameter.setTrieCandidateLimit(3);
+            assertEquals(new ArrayList<>(all.subList(0, 3)), candidateNames(spellCheckerParameter, "kitpa"));
+            spellCheckerParameter.setTrieCandidateLimit(0);
+            for (int expansionLimit : new int[]{1, 5, 20}) {
+                spellCheckerParameter.setTrieExpansionLimit(expansionLimit);
+                ArrayList<String> limited = candidateNames(spellCheckerParameter, "kitpa");
+                assertTrue(limited.size() <= all.size());
+                assertTrue(all.containsAll(limited));
+                if (expansionLimit == 1) {
+                    assertTrue(limited.size() < all.size());
+                }
+            }
+        }
+    }
 }
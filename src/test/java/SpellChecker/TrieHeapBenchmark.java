@@ -0,0 +1,105 @@
+package SpellChecker;
+
+import Util.FileUtils;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+
+/**
+ * Measures the heap used by the lexicon representations built from the same word list: the trie of hash map nodes
+ * the spell checker used before, the array based {@link Trie}, the {@link LexiconImage} converted from it and the
+ * minimized image of the {@link DawgBuilder}. The words are read from the file given as the first argument, or from
+ * generated_words.txt on the class path.
+ */
+public class TrieHeapBenchmark {
+
+    /**
+     * Node of the trie the spell checker used before the array based {@link Trie}, keeping its children in a
+     * {@link HashMap}.
+     */
+    private static class HashMapTrieNode {
+        private final HashMap<Character, HashMapTrieNode> children = new HashMap<>();
+        private boolean isWord;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException ignored) {
+            }
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+
+    private static void report(String name, long bytes, int wordCount) {
+        System.out.printf("%-20s %10.1f MB %8.1f bytes/word%n", name, bytes / (1024.0 * 1024.0), bytes / (double) wordCount);
+    }
+
+    private static HashMapTrieNode buildHashMapTrie(ArrayList<String> words) {
+        HashMapTrieNode root = new HashMapTrieNode();
+        for (String word : words) {
+            HashMapTrieNode node = root;
+            for (int i = 0; i < word.length(); i++) {
+                node = node.children.computeIfAbsent(word.charAt(i), character -> new HashMapTrieNode());
+            }
+            node.isWord = true;
+        }
+        return root;
+    }
+
+    private static int nodeCount(HashMapTrieNode node) {
+        int count = 1;
+        for (HashMapTrieNode child : node.children.values()) {
+            count += nodeCount(child);
+        }
+        return count;
+    }
+
+    public static void main(String[] args) throws IOException {
+        InputStream inputStream = args.length > 0 ? new FileInputStream(args[0]) : FileUtils.getInputStream("generated_words.txt");
+        ArrayList<String> words = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    words.add(line);
+                }
+            }
+        }
+        Collections.sort(words);
+        System.out.println(words.size() + " words");
+        long before = usedHeap();
+        HashMapTrieNode hashMapTrie = buildHashMapTrie(words);
+        report("HashMap trie", usedHeap() - before, words.size());
+        int hashMapStateCount = nodeCount(hashMapTrie);
+        hashMapTrie = null;
+        before = usedHeap();
+        Trie trie = new Trie();
+        for (String word : words) {
+            trie.insert(word);
+        }
+        report("Trie", usedHeap() - before, words.size());
+        before = usedHeap();
+        LexiconImage image = LexiconImage.build(trie);
+        long imageBytes = usedHeap() - before;
+        trie = null;
+        report("LexiconImage", imageBytes, words.size());
+        before = usedHeap();
+        LexiconImage dawg = DawgBuilder.build(new BufferedReader(new StringReader(String.join("\n", words))));
+        report("DAWG LexiconImage", usedHeap() - before, words.size());
+        System.out.println(hashMapStateCount + " HashMap trie nodes, " + image.getStateCount() + " trie states, " + dawg.getStateCount() + " minimized states");
+    }
+}
@@ -0,0 +1,58 @@
+package SpellChecker;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TrieTest {
+
+    @Test
+    public void testSearch() {
+        Trie trie = new Trie();
+        trie.insert("ağaç");
+        trie.insert("ağaçlar");
+        trie.insert("ayı");
+        trie.insert("çiçek");
+        assertTrue(trie.search("ağaç"));
+        assertTrue(trie.search("ağaçlar"));
+        assertTrue(trie.search("AYI"));
+        assertFalse(trie.search("ağa"));
+        assertFalse(trie.search("ağaçları"));
+        assertTrue(trie.startsWith("ağaçl"));
+        assertTrue(trie.startsWith("Çi"));
+        assertFalse(trie.startsWith("b"));
+        assertNull(trie.getTrieNode("ab"));
+        assertTrue(trie.getTrieNode("ağaç").isWord());
+        assertEquals("yğ", trie.getTrieNode("a").childrenToString());
+        assertEquals("aç", trie.getTrieNode("").childrenToString());
+    }
+
+    @Test
+    public void testDawg() {
+        String[] words = {"ayı", "ayılar", "ağaç", "ağaçlar", "kalem", "kalemler", "çiçek", "çiçekler"};
+        Trie trie = new Trie();
+        DawgBuilder builder = new DawgBuilder();
+        for (String word : words) {
+            trie.insert(word);
+            builder.add(word);
+        }
+        LexiconImage trieImage = LexiconImage.build(trie);
+        LexiconImage dawg = builder.build();
+        for (String word : words) {
+            assertTrue(dawg.search(word));
+        }
+        assertFalse(dawg.search("ağaçlarlar"));
+        assertFalse(dawg.search("ay"));
+        assertTrue(dawg.startsWith("çiçekl"));
+        assertEquals("yğ", dawg.childrenToString(dawg.getState("a")));
+        assertEquals(dawg.getState("ağaç"), dawg.getState("ayı"));
+        assertTrue(dawg.getStateCount() < trieImage.getStateCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDawgUnsorted() {
+        DawgBuilder builder = new DawgBuilder();
+        builder.add("kalem");
+        builder.add("ağaç");
+    }
+}